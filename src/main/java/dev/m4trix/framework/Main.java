@@ -3,16 +3,20 @@ package br.com.m4trixdev;
 import br.com.m4trixdev.command.FrameworkCommand;
 import br.com.m4trixdev.listener.ConnectionListener;
 import dev.m4trix.framework.command.CommandRegistry;
+import dev.m4trix.framework.command.RateLimit;
 import dev.m4trix.framework.config.ConfigurationManager;
 import dev.m4trix.framework.core.BasePlugin;
 import dev.m4trix.framework.event.EventRegistry;
 import dev.m4trix.framework.service.CacheService;
+import dev.m4trix.framework.service.EvictionPolicy;
 import dev.m4trix.framework.service.ServiceManager;
 import org.bukkit.configuration.file.FileConfiguration;
 
 public final class Main extends BasePlugin {
 
     private CacheService cacheService;
+    private long cacheMaximumSize = 10000L;
+    private EvictionPolicy cachePolicy = EvictionPolicy.W_TINY_LFU;
 
     @Override
     protected void initialize() {
@@ -24,11 +28,20 @@ public final class Main extends BasePlugin {
             if (debug) {
                 getLogger().info("Debug mode enabled");
             }
+
+            cacheMaximumSize = config.getLong("cache.maximum-size", cacheMaximumSize);
+            try {
+                cachePolicy = EvictionPolicy.valueOf(config.getString("cache.eviction-policy", cachePolicy.name()));
+            } catch (IllegalArgumentException e) {
+                getLogger().warning("Unknown cache eviction policy, using " + cachePolicy);
+            }
         }
     }
 
     @Override
     protected void registerCommands(CommandRegistry registry) {
+        registry.setRateLimit(RateLimit.perSecond(5));
+        registry.setCompletionRateLimit(RateLimit.perSecond(20));
         registry.register("framework", new FrameworkCommand(this));
     }
 
@@ -39,7 +52,13 @@ public final class Main extends BasePlugin {
 
     @Override
     protected void registerServices(ServiceManager manager) {
-        this.cacheService = new CacheService();
+        this.cacheService = CacheService.builder()
+                .maximumSize(cacheMaximumSize)
+                .evictionPolicy(cachePolicy)
+                .recordStats()
+                .clock(getClock())
+                .logger(getLogger())
+                .build();
         manager.register(cacheService);
     }
 
@@ -0,0 +1,256 @@
+package dev.m4trix.framework.command;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+public final class AsyncCommandExecutor {
+
+    private static final int DEFAULT_MAX_CONCURRENT = 64;
+    private static final int DEFAULT_PER_SENDER = 2;
+    private static final long DEFAULT_TIMEOUT_MILLIS = 10_000L;
+    private static final int DETACHED_THREADS = 2;
+
+    private final JavaPlugin plugin;
+    private final Map<Object, AtomicInteger> running;
+    private volatile Semaphore permits;
+    private volatile int maxConcurrent;
+    private volatile int perSenderLimit;
+    private volatile long timeoutMillis;
+    private ExecutorService executor;
+
+    AsyncCommandExecutor(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.running = new ConcurrentHashMap<>();
+        this.maxConcurrent = DEFAULT_MAX_CONCURRENT;
+        this.permits = new Semaphore(DEFAULT_MAX_CONCURRENT);
+        this.perSenderLimit = DEFAULT_PER_SENDER;
+        this.timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Maximum concurrent commands must be positive");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public void setPerSenderLimit(int perSenderLimit) {
+        if (perSenderLimit <= 0) {
+            throw new IllegalArgumentException("Per-sender limit must be positive");
+        }
+        this.perSenderLimit = perSenderLimit;
+    }
+
+    public void setTimeout(Duration timeout) {
+        if (timeout == null || timeout.toMillis() <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public Executor mainThread() {
+        return plugin.getServer().getScheduler().getMainThreadExecutor(plugin);
+    }
+
+    public int getRunningCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    boolean submit(AsyncCommandHandler handler, CommandSender sender, String[] args, int offset,
+                   CommandProfiler profiler, String name) {
+        Object owner = ownerOf(sender);
+        AtomicInteger count = running.computeIfAbsent(owner, key -> new AtomicInteger());
+        if (count.incrementAndGet() > perSenderLimit) {
+            release(owner, count);
+            sender.sendMessage("§cPlease wait for your previous command to finish.");
+            return true;
+        }
+
+        Semaphore semaphore = permits;
+        if (!semaphore.tryAcquire()) {
+            release(owner, count);
+            sender.sendMessage("§cThe server is busy, please try again in a moment.");
+            return true;
+        }
+
+        String[] subArgs = offset == 0 ? args : Arrays.copyOfRange(args, offset, args.length);
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaser = () -> {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+                release(owner, count);
+            }
+        };
+
+        long start = profiler != null ? profiler.start() : CommandProfiler.NOT_STARTED;
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor().submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+
+                CompletableFuture<Boolean> result;
+                try {
+                    result = handler.executeAsync(sender, subArgs);
+                } catch (Throwable t) {
+                    releaser.run();
+                    outcome.completeExceptionally(t);
+                    return;
+                }
+
+                CompletableFuture<Boolean> completion = result != null ? result : CompletableFuture.completedFuture(true);
+                completion.whenComplete((value, error) -> {
+                    releaser.run();
+                    if (error != null) {
+                        outcome.completeExceptionally(error);
+                    } else {
+                        outcome.complete(value);
+                    }
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            releaser.run();
+            sender.sendMessage("§cThe server is busy, please try again in a moment.");
+            return true;
+        }
+
+        outcome.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    if (error instanceof TimeoutException) {
+                        if (started.compareAndSet(false, true)) {
+                            releaser.run();
+                        }
+                        task.cancel(true);
+                    }
+                    if (profiler != null) {
+                        profiler.record(handler, name, start, error != null);
+                    }
+                    handOff(handler, sender, result, error);
+                });
+        return true;
+    }
+
+    synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        running.clear();
+    }
+
+    static boolean executeDetached(AsyncCommandHandler handler, CommandSender sender, String[] args) {
+        JavaPlugin owner = JavaPlugin.getProvidingPlugin(handler.getClass());
+        try {
+            CompletableFuture.supplyAsync(() -> handler.executeAsync(sender, args), Detached.EXECUTOR)
+                    .thenCompose(result -> result != null ? result : CompletableFuture.completedFuture(true))
+                    .whenComplete((result, error) -> handOff(owner, handler, sender, result, error));
+        } catch (RejectedExecutionException e) {
+            sender.sendMessage("§cThe server is busy, please try again in a moment.");
+        }
+        return true;
+    }
+
+    private void handOff(AsyncCommandHandler handler, CommandSender sender, Boolean result, Throwable error) {
+        handOff(plugin, handler, sender, result, error);
+    }
+
+    private static void handOff(JavaPlugin plugin, AsyncCommandHandler handler, CommandSender sender, Boolean result,
+                                Throwable error) {
+        if (!plugin.isEnabled()) {
+            return;
+        }
+
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+
+            if (cause instanceof TimeoutException) {
+                sender.sendMessage("§cThe command took too long and was cancelled.");
+            } else if (cause != null) {
+                sender.sendMessage("§cAn error occurred while executing this command.");
+                plugin.getLogger().log(Level.SEVERE, "Async command failed for " + sender.getName(), cause);
+            } else if (!Boolean.TRUE.equals(result)) {
+                String usage = handler.getUsage();
+                if (usage != null && !usage.isEmpty()) {
+                    sender.sendMessage("§cUsage: " + usage);
+                }
+            }
+        });
+    }
+
+    private void release(Object owner, AtomicInteger count) {
+        if (count.decrementAndGet() <= 0) {
+            running.remove(owner, count);
+        }
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = createExecutor();
+        }
+        return executor;
+    }
+
+    private ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(maxConcurrent), runnable -> {
+                        Thread thread = new Thread(runnable, plugin.getName() + "-Command-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    private static final class Detached {
+        private static final ExecutorService EXECUTOR = createDetachedExecutor();
+
+        private static ExecutorService createDetachedExecutor() {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(DETACHED_THREADS, DETACHED_THREADS, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(DEFAULT_MAX_CONCURRENT), runnable -> {
+                        Thread thread = new Thread(runnable, "Framework-DetachedCommand-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    private static Object ownerOf(CommandSender sender) {
+        return sender instanceof Player ? ((Player) sender).getUniqueId() : sender.getName();
+    }
+}
@@ -0,0 +1,15 @@
+package dev.m4trix.framework.command;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncCommandHandler extends CommandHandler {
+
+    CompletableFuture<Boolean> executeAsync(CommandSender sender, String[] args);
+
+    @Override
+    default boolean execute(CommandSender sender, String[] args) {
+        return AsyncCommandExecutor.executeDetached(this, sender, args);
+    }
+}
@@ -10,34 +10,56 @@ import java.util.*;
 public abstract class BaseCommand implements CommandExecutor, TabCompleter {
 
     private final Map<String, CommandHandler> subCommands;
+    private final CommandTrie trie;
+    private volatile CommandRegistry registry;
 
     public BaseCommand() {
         this.subCommands = new LinkedHashMap<>();
+        this.trie = new CommandTrie();
     }
 
-    protected final void registerSubCommand(String name, CommandHandler handler) {
+    protected final void registerSubCommand(String name, CommandHandler handler, String... aliases) {
         if (name == null || handler == null) {
             throw new IllegalArgumentException("Subcommand name and handler cannot be null");
         }
+
         subCommands.put(name.toLowerCase(), handler);
+        trie.insert(name, handler);
+        for (String alias : aliases) {
+            if (alias == null) {
+                throw new IllegalArgumentException("Subcommand alias cannot be null");
+            }
+            trie.insert(alias, handler);
+        }
     }
 
     @Override
     public final boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        if (args.length > 0) {
-            CommandHandler handler = subCommands.get(args[0].toLowerCase());
-            
-            if (handler != null) {
-                String permission = handler.getPermission();
-                
-                if (permission != null && !sender.hasPermission(permission)) {
-                    sender.sendMessage("§cYou don't have permission to use this command.");
-                    return true;
-                }
-
-                String[] subArgs = Arrays.copyOfRange(args, 1, args.length);
-                return handler.execute(sender, subArgs);
-            }
+        CommandRegistry registry = this.registry;
+        if (registry == null) {
+            return execute(sender, command, args, null);
+        }
+
+        if (!registry.tryAcquire(sender)) {
+            sender.sendMessage(CommandTrie.RATE_LIMITED);
+            return true;
+        }
+
+        CommandProfiler profiler = registry.getProfiler();
+        long start = profiler.start();
+        boolean failed = true;
+        try {
+            boolean result = execute(sender, command, args, registry);
+            failed = false;
+            return result;
+        } finally {
+            profiler.record(this, command.getName(), start, failed);
+        }
+    }
+
+    private boolean execute(CommandSender sender, Command command, String[] args, CommandRegistry registry) {
+        if (args.length > 0 && trie.get(args[0]) != null) {
+            return trie.dispatch(sender, args, 0, registry, command.getName());
         }
 
         return executeDefault(sender, args);
@@ -45,33 +67,24 @@ public abstract class BaseCommand implements CommandExecutor, TabCompleter {
 
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
-        if (args.length == 1) {
-            List<String> completions = new ArrayList<>();
-            String input = args[0].toLowerCase();
-            
-            for (Map.Entry<String, CommandHandler> entry : subCommands.entrySet()) {
-                String subCmd = entry.getKey();
-                CommandHandler handler = entry.getValue();
-                String permission = handler.getPermission();
-                
-                if (permission == null || sender.hasPermission(permission)) {
-                    if (subCmd.startsWith(input)) {
-                        completions.add(subCmd);
-                    }
-                }
-            }
-            
-            return completions;
+        if (args.length == 0) {
+            return Collections.emptyList();
         }
 
-        if (args.length > 1) {
-            CommandHandler handler = subCommands.get(args[0].toLowerCase());
-            if (handler instanceof TabCompleter) {
-                return ((TabCompleter) handler).onTabComplete(sender, command, alias, args);
-            }
+        CommandRegistry registry = this.registry;
+        if (registry != null && !registry.tryAcquireCompletion(sender)) {
+            return Collections.emptyList();
         }
 
-        return Collections.emptyList();
+        return trie.complete(sender, command, alias, args, 0);
+    }
+
+    CommandTrie getTrie() {
+        return trie;
+    }
+
+    void attach(CommandRegistry registry) {
+        this.registry = registry;
     }
 
     protected abstract boolean executeDefault(CommandSender sender, String[] args);
@@ -79,4 +92,4 @@ public abstract class BaseCommand implements CommandExecutor, TabCompleter {
     protected final Map<String, CommandHandler> getSubCommands() {
         return Collections.unmodifiableMap(subCommands);
     }
-}
\ No newline at end of file
+}
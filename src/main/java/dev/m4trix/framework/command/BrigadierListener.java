@@ -0,0 +1,53 @@
+package dev.m4trix.framework.command;
+
+import com.destroystokyo.paper.brigadier.BukkitBrigadierCommandSource;
+import com.destroystokyo.paper.event.brigadier.CommandRegisteredEvent;
+import dev.m4trix.framework.util.FrameworkClock;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+final class BrigadierListener implements Listener {
+
+    private final Plugin plugin;
+    private final SuggestionCache suggestions;
+
+    BrigadierListener(Plugin plugin, FrameworkClock clock) {
+        this.plugin = plugin;
+        this.suggestions = new SuggestionCache(clock);
+    }
+
+    @EventHandler
+    public void onCommandRegistered(CommandRegisteredEvent<BukkitBrigadierCommandSource> event) {
+        BaseCommand command = baseCommandOf(event.getCommand());
+        if (command == null) {
+            return;
+        }
+
+        event.setLiteral(new BrigadierTree<>(event.getCommandLabel(), command, event.getCommand(),
+                event.getBrigadierCommand(), suggestions).build());
+        event.setRawCommand(true);
+    }
+
+    static boolean isSupported() {
+        try {
+            Class.forName("com.destroystokyo.paper.event.brigadier.CommandRegisteredEvent");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private BaseCommand baseCommandOf(Command command) {
+        CommandExecutor executor = null;
+        if (command instanceof PluginCommand && ((PluginCommand) command).getPlugin() == plugin) {
+            executor = ((PluginCommand) command).getExecutor();
+        } else if (command instanceof RuntimeCommand && ((RuntimeCommand) command).getPlugin() == plugin) {
+            executor = ((RuntimeCommand) command).getExecutor();
+        }
+        return executor instanceof BaseCommand ? (BaseCommand) executor : null;
+    }
+}
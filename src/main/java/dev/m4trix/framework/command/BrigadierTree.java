@@ -0,0 +1,144 @@
+package dev.m4trix.framework.command;
+
+import com.destroystokyo.paper.brigadier.BukkitBrigadierCommandSource;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import dev.m4trix.framework.command.argument.ArgumentCommandHandler;
+import dev.m4trix.framework.command.argument.ArgumentParser;
+import dev.m4trix.framework.command.argument.ArgumentType;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+final class BrigadierTree<S extends BukkitBrigadierCommandSource> {
+
+    private final String label;
+    private final BaseCommand command;
+    private final org.bukkit.command.Command bukkitCommand;
+    private final Command<S> executor;
+    private final SuggestionCache suggestions;
+    private final SuggestionProvider<S> serverSuggestions;
+
+    BrigadierTree(String label, BaseCommand command, org.bukkit.command.Command bukkitCommand, Command<S> executor,
+                  SuggestionCache suggestions) {
+        this.label = label;
+        this.command = command;
+        this.bukkitCommand = bukkitCommand;
+        this.executor = executor;
+        this.suggestions = suggestions;
+        this.serverSuggestions = this::suggest;
+    }
+
+    LiteralCommandNode<S> build() {
+        LiteralArgumentBuilder<S> root = LiteralArgumentBuilder.<S>literal(label).executes(executor);
+        command.getTrie().forEach((name, handler) -> root.then(subcommand(name, handler)));
+        return root.build();
+    }
+
+    private LiteralArgumentBuilder<S> subcommand(String name, CommandHandler handler) {
+        String permission = handler.getPermission();
+        LiteralArgumentBuilder<S> node = LiteralArgumentBuilder.<S>literal(name);
+        if (permission != null) {
+            node.requires(source -> CommandTrie.PERMISSIONS.has(source.getBukkitSender(), permission));
+        }
+
+        if (handler instanceof SubCommandGroup) {
+            node.executes(executor);
+            SubCommandGroup group = (SubCommandGroup) handler;
+            group.getTrie().forEach((child, childHandler) -> node.then(subcommand(child, childHandler)));
+        } else if (handler instanceof ArgumentCommandHandler) {
+            ArgumentParser parser = ((ArgumentCommandHandler) handler).getParser();
+            if (parser.getRequiredCount() == 0) {
+                node.executes(executor);
+            }
+            for (CommandNode<S> child : arguments(parser)) {
+                node.then(child);
+            }
+        } else {
+            RequiredArgumentBuilder<S, String> args = RequiredArgumentBuilder.<S, String>argument("args",
+                    StringArgumentType.greedyString()).executes(executor);
+            if (handler instanceof TabCompleter) {
+                args.suggests(serverSuggestions);
+            }
+            node.executes(executor).then(args);
+        }
+        return node;
+    }
+
+    private List<CommandNode<S>> arguments(ArgumentParser parser) {
+        List<CommandNode<S>> next = Collections.emptyList();
+
+        for (int i = parser.size() - 1; i >= 0; i--) {
+            ArgumentType<?> type = parser.getType(i);
+            boolean executable = i + 1 >= parser.getRequiredCount();
+            List<CommandNode<S>> nodes = new ArrayList<>();
+
+            List<String> choices = type.getChoices();
+            if (!choices.isEmpty()) {
+                for (String choice : choices) {
+                    LiteralArgumentBuilder<S> literal = LiteralArgumentBuilder.literal(choice);
+                    if (executable) {
+                        literal.executes(executor);
+                    }
+                    for (CommandNode<S> child : next) {
+                        literal.then(child);
+                    }
+                    nodes.add(literal.build());
+                }
+            } else {
+                RequiredArgumentBuilder<S, ?> argument = RequiredArgumentBuilder.argument(parser.getName(i),
+                        type.getBrigadierType());
+                if (type.hasDynamicSuggestions()) {
+                    argument.suggests(serverSuggestions);
+                }
+                if (executable) {
+                    argument.executes(executor);
+                }
+                for (CommandNode<S> child : next) {
+                    argument.then(child);
+                }
+                nodes.add(argument.build());
+            }
+            next = nodes;
+        }
+        return next;
+    }
+
+    private CompletableFuture<Suggestions> suggest(CommandContext<S> context, SuggestionsBuilder builder) {
+        CommandSender sender = context.getSource().getBukkitSender();
+        String input = builder.getInput();
+        int firstSpace = input.indexOf(' ');
+        int lastSpace = input.lastIndexOf(' ');
+        if (firstSpace < 0) {
+            return builder.buildFuture();
+        }
+
+        String line = input.substring(0, lastSpace + 1);
+        String prefix = input.substring(lastSpace + 1);
+        List<String> completions = suggestions.get(sender, line, () -> {
+            String[] args = line.substring(firstSpace + 1).split(" ", -1);
+            List<String> result = command.onTabComplete(sender, bukkitCommand, label, args);
+            return result != null ? result : Collections.emptyList();
+        });
+
+        SuggestionsBuilder offset = builder.createOffset(lastSpace + 1);
+        for (String completion : completions) {
+            if (completion.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                offset.suggest(completion);
+            }
+        }
+        return offset.buildFuture();
+    }
+}
@@ -2,10 +2,16 @@ package dev.m4trix.framework.command;
 
 import org.bukkit.command.CommandSender;
 
+import java.util.Arrays;
+
 public interface CommandHandler {
 
     boolean execute(CommandSender sender, String[] args);
 
+    default boolean execute(CommandSender sender, String[] args, int offset) {
+        return execute(sender, offset == 0 ? args : Arrays.copyOfRange(args, offset, args.length));
+    }
+
     default String getPermission() {
         return null;
     }
@@ -13,4 +19,8 @@ public interface CommandHandler {
     default String getUsage() {
         return "";
     }
+
+    default RateLimit getRateLimit() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package dev.m4trix.framework.command;
+
+public final class CommandProfile {
+
+    private final String name;
+    private final long count;
+    private final long errorCount;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] buckets;
+
+    CommandProfile(String name, long count, long errorCount, long totalNanos, long maxNanos, long[] buckets) {
+        this.name = name;
+        this.count = count;
+        this.errorCount = errorCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.buckets = buckets;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0L;
+        }
+
+        long target = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return Math.min(LatencyHistogram.highestValueAt(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CommandProfile{name=%s, count=%d, errors=%d, mean=%.3fms, p99=%.3fms, max=%.3fms}",
+                name, count, errorCount, getMeanNanos() / 1_000_000.0, getPercentileNanos(99.0) / 1_000_000.0,
+                maxNanos / 1_000_000.0);
+    }
+}
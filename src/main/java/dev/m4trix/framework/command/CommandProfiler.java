@@ -0,0 +1,88 @@
+package dev.m4trix.framework.command;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class CommandProfiler {
+
+    static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final Map<Object, LatencyHistogram> histograms;
+    private volatile boolean enabled;
+
+    CommandProfiler() {
+        this.histograms = new ConcurrentHashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    public List<CommandProfile> snapshot() {
+        List<CommandProfile> profiles = new ArrayList<>(histograms.size());
+        for (LatencyHistogram histogram : histograms.values()) {
+            profiles.add(histogram.snapshot());
+        }
+        profiles.sort(Comparator.comparingLong(CommandProfile::getTotalNanos).reversed());
+        return profiles;
+    }
+
+    public void export(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write("command,count,errors,total_ms,mean_ms,p50_ms,p95_ms,p99_ms,max_ms");
+            writer.newLine();
+            for (CommandProfile profile : snapshot()) {
+                writer.write(String.format(Locale.ROOT, "\"%s\",%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                        profile.getName().replace("\"", "\"\""), profile.getCount(), profile.getErrorCount(),
+                        profile.getTotalNanos() / 1_000_000.0, profile.getMeanNanos() / 1_000_000.0,
+                        profile.getPercentileNanos(50.0) / 1_000_000.0,
+                        profile.getPercentileNanos(95.0) / 1_000_000.0,
+                        profile.getPercentileNanos(99.0) / 1_000_000.0, profile.getMaxNanos() / 1_000_000.0));
+                writer.newLine();
+            }
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    long start() {
+        return enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    void record(Object key, String name, long start, boolean failed) {
+        if (start == NOT_STARTED) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(key, k -> new LatencyHistogram(name));
+        }
+        histogram.record(elapsed, failed);
+    }
+}
@@ -1,11 +1,19 @@
 package dev.m4trix.framework.command;
 
+import dev.m4trix.framework.util.FrameworkClock;
+import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandMap;
+import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
 public final class CommandRegistry {
@@ -13,14 +21,29 @@ public final class CommandRegistry {
     private final JavaPlugin plugin;
     private final Set<String> registeredCommands;
     private final Map<String, Set<String>> commandAliases;
+    private final AsyncCommandExecutor asyncExecutor;
+    private final CommandProfiler profiler;
+    private final Map<CommandHandler, RateLimiter> handlerLimiters;
+    private final Map<String, RuntimeCommand> runtimeCommands;
+    private final AtomicBoolean resyncPending;
+    private BrigadierListener brigadierListener;
+    private volatile FrameworkClock clock;
+    private volatile RateLimiter senderLimiter;
+    private volatile RateLimiter completionLimiter;
 
     public CommandRegistry(JavaPlugin plugin) {
         this.plugin = plugin;
         this.registeredCommands = new HashSet<>();
         this.commandAliases = new HashMap<>();
+        this.asyncExecutor = new AsyncCommandExecutor(plugin);
+        this.profiler = new CommandProfiler();
+        this.handlerLimiters = new ConcurrentHashMap<>();
+        this.runtimeCommands = new HashMap<>();
+        this.resyncPending = new AtomicBoolean();
+        this.clock = FrameworkClock.monotonic();
     }
 
-    public boolean register(String name, CommandExecutor executor) {
+    public boolean register(String name, CommandExecutor executor, String... aliases) {
         if (name == null || name.trim().isEmpty()) {
             plugin.getLogger().warning("Cannot register command with null or empty name");
             return false;
@@ -31,42 +54,108 @@ public final class CommandRegistry {
             return false;
         }
 
-        PluginCommand command = plugin.getCommand(name);
-        
-        if (command == null) {
-            plugin.getLogger().log(Level.WARNING, "Command not declared in plugin.yml: " + name);
+        if (registeredCommands.contains(name)) {
+            plugin.getLogger().warning("Command already registered: " + name);
             return false;
         }
 
-        command.setExecutor(executor);
-        
-        if (executor instanceof TabCompleter) {
-            command.setTabCompleter((TabCompleter) executor);
+        PluginCommand command = plugin.getCommand(name);
+        Set<String> registeredAliases;
+
+        if (command != null) {
+            command.setExecutor(executor);
+
+            if (executor instanceof TabCompleter) {
+                command.setTabCompleter((TabCompleter) executor);
+            }
+            registeredAliases = new HashSet<>(command.getAliases());
+        } else {
+            List<String> runtimeAliases = new ArrayList<>(aliases.length);
+            for (String alias : aliases) {
+                if (alias == null || alias.trim().isEmpty()) {
+                    plugin.getLogger().warning("Ignoring empty alias for command: " + name);
+                    continue;
+                }
+                runtimeAliases.add(alias.toLowerCase(Locale.ROOT));
+            }
+
+            RuntimeCommand runtime = new RuntimeCommand(name.toLowerCase(Locale.ROOT), runtimeAliases, plugin,
+                    executor);
+            if (!plugin.getServer().getCommandMap().register(fallbackPrefix(), runtime)) {
+                plugin.getLogger().log(Level.WARNING, "Command label already taken, registered as "
+                        + fallbackPrefix() + ":" + name);
+            }
+
+            runtimeCommands.put(name, runtime);
+            registeredAliases = new HashSet<>(runtimeAliases);
+            scheduleResync();
+        }
+
+        if (executor instanceof BaseCommand) {
+            ((BaseCommand) executor).attach(this);
+            enableBrigadier();
         }
 
         registeredCommands.add(name);
-        
-        List<String> aliases = command.getAliases();
-        if (!aliases.isEmpty()) {
-            commandAliases.put(name, new HashSet<>(aliases));
+
+        if (!registeredAliases.isEmpty()) {
+            commandAliases.put(name, registeredAliases);
         }
-        
+
         return true;
     }
 
+    public int registerAll(Map<String, ? extends CommandExecutor> commands) {
+        int registered = 0;
+        for (Map.Entry<String, ? extends CommandExecutor> entry : commands.entrySet()) {
+            if (register(entry.getKey(), entry.getValue())) {
+                registered++;
+            }
+        }
+        return registered;
+    }
+
     public boolean unregister(String name) {
+        return unregister(name, true);
+    }
+
+    public int unregisterAll() {
+        int unregistered = 0;
+        for (String name : new ArrayList<>(registeredCommands)) {
+            if (unregister(name, false)) {
+                unregistered++;
+            }
+        }
+        if (unregistered > 0) {
+            scheduleResync();
+        }
+        return unregistered;
+    }
+
+    private boolean unregister(String name, boolean resync) {
         if (name == null || !registeredCommands.contains(name)) {
             return false;
         }
 
-        PluginCommand command = plugin.getCommand(name);
-        if (command != null) {
-            command.setExecutor(null);
-            command.setTabCompleter(null);
+        RuntimeCommand runtime = runtimeCommands.remove(name);
+        if (runtime != null) {
+            detach(runtime.getExecutor());
+            removeFromCommandMap(runtime);
+        } else {
+            PluginCommand command = plugin.getCommand(name);
+            if (command != null) {
+                detach(command.getExecutor());
+                command.setExecutor(null);
+                command.setTabCompleter(null);
+                removeFromCommandMap(command);
+            }
         }
 
         registeredCommands.remove(name);
         commandAliases.remove(name);
+        if (resync) {
+            scheduleResync();
+        }
         return true;
     }
 
@@ -86,4 +175,123 @@ public final class CommandRegistry {
     public int count() {
         return registeredCommands.size();
     }
+
+    public void setClock(FrameworkClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+        CommandTrie.PERMISSIONS.setClock(clock);
+    }
+
+    public void setRateLimit(RateLimit limit) {
+        this.senderLimiter = limit != null ? new RateLimiter(limit, clock.millis(), plugin.getLogger()) : null;
+    }
+
+    public void setCompletionRateLimit(RateLimit limit) {
+        this.completionLimiter = limit != null ? new RateLimiter(limit, clock.millis(), plugin.getLogger()) : null;
+    }
+
+    boolean tryAcquire(CommandSender sender) {
+        RateLimiter limiter = senderLimiter;
+        return limiter == null || !(sender instanceof Player)
+                || limiter.tryAcquire(((Player) sender).getUniqueId(), clock.millis());
+    }
+
+    boolean tryAcquireCompletion(CommandSender sender) {
+        RateLimiter limiter = completionLimiter;
+        return limiter == null || !(sender instanceof Player)
+                || limiter.tryAcquire(((Player) sender).getUniqueId(), clock.millis());
+    }
+
+    boolean tryAcquire(CommandSender sender, CommandHandler handler) {
+        if (!(sender instanceof Player)) {
+            return true;
+        }
+
+        RateLimiter limiter = handlerLimiters.get(handler);
+        if (limiter == null) {
+            RateLimit limit = handler.getRateLimit();
+            if (limit == null) {
+                return true;
+            }
+            limiter = handlerLimiters.computeIfAbsent(handler,
+                    h -> new RateLimiter(limit, clock.millis(), plugin.getLogger()));
+        }
+        return limiter.tryAcquire(((Player) sender).getUniqueId(), clock.millis());
+    }
+
+    public AsyncCommandExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    public CommandProfiler getProfiler() {
+        return profiler;
+    }
+
+    public void shutdown() {
+        boolean removed = false;
+        for (String name : new ArrayList<>(runtimeCommands.keySet())) {
+            removed |= unregister(name, false);
+        }
+        if (removed) {
+            scheduleResync();
+        }
+        if (brigadierListener != null) {
+            HandlerList.unregisterAll(brigadierListener);
+            brigadierListener = null;
+        }
+        asyncExecutor.shutdown();
+    }
+
+    private void enableBrigadier() {
+        if (brigadierListener == null && BrigadierListener.isSupported()) {
+            brigadierListener = new BrigadierListener(plugin, clock);
+            plugin.getServer().getPluginManager().registerEvents(brigadierListener, plugin);
+        }
+    }
+
+    private void detach(CommandExecutor executor) {
+        if (executor instanceof BaseCommand) {
+            ((BaseCommand) executor).attach(null);
+        }
+    }
+
+    private void removeFromCommandMap(Command command) {
+        CommandMap commandMap = plugin.getServer().getCommandMap();
+        command.unregister(commandMap);
+        commandMap.getKnownCommands().values().removeIf(known -> known == command);
+    }
+
+    private void scheduleResync() {
+        if (!resyncPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (plugin.isEnabled()) {
+            plugin.getServer().getScheduler().runTask(plugin, this::resync);
+        } else if (plugin.getServer().isPrimaryThread()) {
+            resync();
+        } else {
+            resyncPending.set(false);
+        }
+    }
+
+    private void resync() {
+        resyncPending.set(false);
+        try {
+            plugin.getServer().getClass().getMethod("syncCommands").invoke(plugin.getServer());
+            return;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            plugin.getLogger().log(Level.FINE, "Server command sync unavailable, updating players directly", e);
+        }
+
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            player.updateCommands();
+        }
+    }
+
+    private String fallbackPrefix() {
+        return plugin.getName().toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package dev.m4trix.framework.command;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+final class CommandTrie {
+
+    static final PermissionCache PERMISSIONS = new PermissionCache();
+    static final String RATE_LIMITED = "§cYou're doing that too fast. Please wait a moment.";
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+
+    CommandTrie() {
+        this.root = new Node();
+    }
+
+    void insert(String label, CommandHandler handler) {
+        String key = label.toLowerCase();
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Subcommand label cannot be empty");
+        }
+
+        Node node = find(key);
+        boolean replacing = node != null && node.handler != null;
+        String permission = handler.getPermission();
+
+        node = root;
+        merge(node, permission, replacing);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            merge(node, permission, replacing);
+        }
+        node.label = key;
+        node.handler = handler;
+    }
+
+    CommandHandler get(String label) {
+        Node node = find(label);
+        return node != null ? node.handler : null;
+    }
+
+    boolean dispatch(CommandSender sender, String[] args, int offset, CommandRegistry registry, String path) {
+        Node node = find(args[offset]);
+        CommandHandler handler = node.handler;
+        String permission = handler.getPermission();
+
+        if (permission != null && !sender.hasPermission(permission)) {
+            sender.sendMessage("§cYou don't have permission to use this command.");
+            return true;
+        }
+
+        if (registry != null && !registry.tryAcquire(sender, handler)) {
+            sender.sendMessage(RATE_LIMITED);
+            return true;
+        }
+
+        CommandProfiler profiler = registry != null ? registry.getProfiler() : null;
+        String name = profiler != null && profiler.isEnabled() ? path + " " + node.label : path;
+
+        int next = offset + 1;
+        if (handler instanceof SubCommandGroup) {
+            SubCommandGroup group = (SubCommandGroup) handler;
+            if (args.length > next && group.getTrie().get(args[next]) != null) {
+                return group.getTrie().dispatch(sender, args, next, registry, name);
+            }
+        } else if (handler instanceof AsyncCommandHandler && registry != null) {
+            return registry.getAsyncExecutor().submit((AsyncCommandHandler) handler, sender, args, next,
+                    profiler, name);
+        }
+
+        if (profiler == null) {
+            return handler.execute(sender, args, next);
+        }
+
+        long start = profiler.start();
+        boolean failed = true;
+        try {
+            boolean result = handler.execute(sender, args, next);
+            failed = false;
+            return result;
+        } finally {
+            profiler.record(handler, name, start, failed);
+        }
+    }
+
+    List<String> complete(CommandSender sender, Command command, String alias, String[] args, int offset) {
+        if (args.length - offset == 1) {
+            return complete(sender, args[offset]);
+        }
+
+        CommandHandler handler = get(args[offset]);
+        if (handler == null || !PERMISSIONS.has(sender, handler.getPermission())) {
+            return Collections.emptyList();
+        }
+
+        if (handler instanceof SubCommandGroup) {
+            return ((SubCommandGroup) handler).getTrie().complete(sender, command, alias, args, offset + 1);
+        }
+        if (handler instanceof TabCompleter) {
+            String[] handlerArgs = offset == 0 ? args : Arrays.copyOfRange(args, offset, args.length);
+            return ((TabCompleter) handler).onTabComplete(sender, command, alias, handlerArgs);
+        }
+        return Collections.emptyList();
+    }
+
+    List<String> complete(CommandSender sender, String prefix) {
+        Node node = find(prefix);
+        if (node == null || node.terminals == 0) {
+            return Collections.emptyList();
+        }
+
+        List<String> completions = new ArrayList<>();
+        collect(node, sender, false, completions);
+        return completions;
+    }
+
+    void forEach(BiConsumer<String, CommandHandler> action) {
+        forEach(root, action);
+    }
+
+    private void forEach(Node node, BiConsumer<String, CommandHandler> action) {
+        if (node.handler != null) {
+            action.accept(node.label, node.handler);
+        }
+        for (int i = 0; i < node.size; i++) {
+            forEach(node.children[i], action);
+        }
+    }
+
+    private void collect(Node node, CommandSender sender, boolean allowed, List<String> out) {
+        if (!allowed && !node.mixed) {
+            if (!PERMISSIONS.has(sender, node.permission)) {
+                return;
+            }
+            allowed = true;
+        }
+
+        if (node.handler != null && (allowed || PERMISSIONS.has(sender, node.handler.getPermission()))) {
+            out.add(node.label);
+        }
+
+        for (int i = 0; i < node.size; i++) {
+            collect(node.children[i], sender, allowed, out);
+        }
+    }
+
+    private Node find(String label) {
+        Node node = root;
+        for (int i = 0; i < label.length() && node != null; i++) {
+            node = node.child(Character.toLowerCase(label.charAt(i)));
+        }
+        return node;
+    }
+
+    private static void merge(Node node, String permission, boolean replacing) {
+        if (!replacing) {
+            if (node.terminals++ == 0) {
+                node.permission = permission;
+                return;
+            }
+        }
+        if (!Objects.equals(node.permission, permission)) {
+            node.mixed = true;
+        }
+    }
+
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
+        private int terminals;
+        private String permission;
+        private boolean mixed;
+        private String label;
+        private CommandHandler handler;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertion = -index - 1;
+            if (size == keys.length) {
+                int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertion, keys, insertion + 1, size - insertion);
+            System.arraycopy(children, insertion, children, insertion + 1, size - insertion);
+
+            Node node = new Node();
+            keys[insertion] = key;
+            children[insertion] = node;
+            size++;
+            return node;
+        }
+    }
+}
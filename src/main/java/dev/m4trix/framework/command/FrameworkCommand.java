@@ -3,8 +3,19 @@ package br.com.m4trixdev.command;
 import br.com.m4trixdev.Main;
 import dev.m4trix.framework.command.BaseCommand;
 import dev.m4trix.framework.command.CommandHandler;
+import dev.m4trix.framework.command.CommandProfile;
+import dev.m4trix.framework.command.CommandProfiler;
+import dev.m4trix.framework.command.RateLimit;
+import dev.m4trix.framework.command.SubCommandGroup;
+import dev.m4trix.framework.service.CacheStats;
 import org.bukkit.command.CommandSender;
 
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.logging.Level;
+
 public final class FrameworkCommand extends BaseCommand {
 
     private final Main plugin;
@@ -13,6 +24,7 @@ public final class FrameworkCommand extends BaseCommand {
         this.plugin = plugin;
         registerSubCommand("reload", new ReloadHandler());
         registerSubCommand("info", new InfoHandler());
+        registerSubCommand("profile", new ProfileGroup());
     }
 
     @Override
@@ -27,11 +39,17 @@ public final class FrameworkCommand extends BaseCommand {
         @Override
         public boolean execute(CommandSender sender, String[] args) {
             long start = System.currentTimeMillis();
-            plugin.getConfigManager().reloadAll();
-            long elapsed = System.currentTimeMillis() - start;
-            
-            sender.sendMessage("§aConfiguration reloaded successfully");
-            sender.sendMessage("§7Took §e" + elapsed + "ms");
+            plugin.getConfigManager().reloadAllAsync().whenCompleteAsync((reloaded, error) -> {
+                long elapsed = System.currentTimeMillis() - start;
+                if (error != null) {
+                    sender.sendMessage("§cFailed to reload configuration");
+                    plugin.getLogger().log(Level.SEVERE, "Failed to reload configuration", error);
+                    return;
+                }
+
+                sender.sendMessage("§aConfiguration reloaded successfully");
+                sender.sendMessage("§7Reloaded §e" + reloaded + "§7 files in §e" + elapsed + "ms");
+            }, plugin.getServer().getScheduler().getMainThreadExecutor(plugin));
             return true;
         }
 
@@ -42,7 +60,9 @@ public final class FrameworkCommand extends BaseCommand {
     }
 
     private final class InfoHandler implements CommandHandler {
-        
+
+        private final RateLimit rateLimit = RateLimit.of(3, Duration.ofSeconds(10));
+
         @Override
         public boolean execute(CommandSender sender, String[] args) {
             sender.sendMessage("§a§lFramework Information");
@@ -53,7 +73,86 @@ public final class FrameworkCommand extends BaseCommand {
             sender.sendMessage("§7Active Listeners: §e" + plugin.getEventRegistry().count());
             sender.sendMessage("§7Running Services: §e" + plugin.getServiceManager().count());
             sender.sendMessage("§7Cache Entries: §e" + plugin.getCacheService().size());
+
+            CacheStats stats = plugin.getCacheService().stats();
+            sender.sendMessage("§7Cache Hit Rate: §e" + String.format("%.2f%%", stats.getHitRate() * 100)
+                    + " §7(§e" + stats.getHitCount() + "§7 hits, §e" + stats.getMissCount() + "§7 misses)");
+            sender.sendMessage("§7Cache Loads: §e" + stats.getLoadCount()
+                    + " §7(avg §e" + String.format("%.2f", stats.getAverageLoadPenalty() / 1_000_000.0) + "ms§7, §e"
+                    + stats.getLoadFailureCount() + "§7 failed)");
+            sender.sendMessage("§7Cache Evictions: §e" + stats.getEvictionCount()
+                    + " §7| Expired: §e" + stats.getExpiredCount());
+            return true;
+        }
+
+        @Override
+        public RateLimit getRateLimit() {
+            return rateLimit;
+        }
+    }
+
+    private final class ProfileGroup extends SubCommandGroup {
+
+        private static final int SHOWN = 10;
+
+        private ProfileGroup() {
+            super("framework.admin");
+            register("on", (sender, args) -> toggle(sender, true), "start");
+            register("off", (sender, args) -> toggle(sender, false), "stop");
+            register("reset", (sender, args) -> {
+                profiler().reset();
+                sender.sendMessage("§aCommand profile cleared");
+                return true;
+            });
+            register("export", (sender, args) -> export(sender));
+        }
+
+        @Override
+        protected boolean executeDefault(CommandSender sender, String[] args) {
+            CommandProfiler profiler = profiler();
+            List<CommandProfile> profiles = profiler.snapshot();
+
+            sender.sendMessage("§a§lCommand Profile §7(" + (profiler.isEnabled() ? "§arecording" : "§cstopped") + "§7)");
+            if (profiles.isEmpty()) {
+                sender.sendMessage("§7No samples recorded. Use §e/framework profile on §7to start.");
+                return true;
+            }
+
+            for (int i = 0; i < Math.min(SHOWN, profiles.size()); i++) {
+                CommandProfile profile = profiles.get(i);
+                sender.sendMessage("§e/" + profile.getName() + " §7x§e" + profile.getCount()
+                        + " §7avg §e" + millis(profile.getMeanNanos())
+                        + " §7p99 §e" + millis(profile.getPercentileNanos(99.0))
+                        + " §7max §e" + millis(profile.getMaxNanos())
+                        + (profile.getErrorCount() > 0 ? " §c" + profile.getErrorCount() + " errors" : ""));
+            }
+            return true;
+        }
+
+        private boolean toggle(CommandSender sender, boolean enabled) {
+            profiler().setEnabled(enabled);
+            sender.sendMessage(enabled ? "§aCommand profiling started" : "§aCommand profiling stopped");
             return true;
         }
+
+        private boolean export(CommandSender sender) {
+            File file = new File(plugin.getDataFolder(), "profile-" + System.currentTimeMillis() + ".csv");
+            try {
+                profiler().export(file.toPath());
+                sender.sendMessage("§aProfile exported to §e" + file.getName());
+            } catch (IOException e) {
+                sender.sendMessage("§cFailed to export profile");
+                plugin.getLogger().log(Level.WARNING, "Failed to export command profile", e);
+            }
+            return true;
+        }
+
+        private CommandProfiler profiler() {
+            return plugin.getCommandRegistry().getProfiler();
+        }
+
+        private String millis(double nanos) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
     }
-}
\ No newline at end of file
+}
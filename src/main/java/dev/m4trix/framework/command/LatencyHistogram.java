@@ -0,0 +1,74 @@
+package dev.m4trix.framework.command;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int MAXIMUM_EXPONENT = 40;
+    static final int BUCKETS = (MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray counts;
+    private final AtomicLong totalNanos;
+    private final AtomicLong maxNanos;
+    private final AtomicLong errors;
+
+    LatencyHistogram(String name) {
+        this.name = name;
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.totalNanos = new AtomicLong();
+        this.maxNanos = new AtomicLong();
+        this.errors = new AtomicLong();
+    }
+
+    void record(long nanos, boolean failed) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(indexOf(value));
+        totalNanos.addAndGet(value);
+        if (failed) {
+            errors.incrementAndGet();
+        }
+
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    CommandProfile snapshot() {
+        long[] buckets = new long[BUCKETS];
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = counts.get(i);
+            count += buckets[i];
+        }
+        return new CommandProfile(name, count, errors.get(), totalNanos.get(), maxNanos.get(), buckets);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAXIMUM_EXPONENT) {
+            return BUCKETS - 1;
+        }
+
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.m4trix.framework.command;
+
+import dev.m4trix.framework.util.FrameworkClock;
+import org.bukkit.command.CommandSender;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+final class PermissionCache {
+
+    private static final long TTL_MILLIS = 1000L;
+
+    private final Map<CommandSender, Entry> entries;
+    private volatile FrameworkClock clock;
+
+    PermissionCache() {
+        this.entries = new WeakHashMap<>();
+        this.clock = FrameworkClock.monotonic();
+    }
+
+    void setClock(FrameworkClock clock) {
+        this.clock = clock;
+    }
+
+    boolean has(CommandSender sender, String permission) {
+        if (permission == null) {
+            return true;
+        }
+
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(sender);
+            if (entry == null || now - entry.created > TTL_MILLIS) {
+                entry = new Entry(now);
+                entries.put(sender, entry);
+            }
+
+            Boolean cached = entry.results.get(permission);
+            if (cached == null) {
+                cached = sender.hasPermission(permission);
+                entry.results.put(permission, cached);
+            }
+            return cached;
+        }
+    }
+
+    void invalidate(CommandSender sender) {
+        synchronized (entries) {
+            entries.remove(sender);
+        }
+    }
+
+    private static final class Entry {
+        private final long created;
+        private final Map<String, Boolean> results;
+
+        Entry(long created) {
+            this.created = created;
+            this.results = new HashMap<>();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.m4trix.framework.command;
+
+import java.time.Duration;
+
+public final class RateLimit {
+
+    static final int MAXIMUM_PERMITS = 4000;
+
+    private final int permits;
+    private final long periodMillis;
+
+    private RateLimit(int permits, long periodMillis) {
+        this.permits = permits;
+        this.periodMillis = periodMillis;
+    }
+
+    public static RateLimit of(int permits, Duration period) {
+        if (permits <= 0 || permits > MAXIMUM_PERMITS) {
+            throw new IllegalArgumentException("Permits must be between 1 and " + MAXIMUM_PERMITS);
+        }
+        if (period == null || period.toMillis() <= 0) {
+            throw new IllegalArgumentException("Rate limit period must be positive");
+        }
+        return new RateLimit(permits, period.toMillis());
+    }
+
+    public static RateLimit perSecond(int permits) {
+        return of(permits, Duration.ofSeconds(1));
+    }
+
+    public static RateLimit perMinute(int permits) {
+        return of(permits, Duration.ofMinutes(1));
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public Duration getPeriod() {
+        return Duration.ofMillis(periodMillis);
+    }
+
+    long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimit{" + permits + " per " + periodMillis + "ms}";
+    }
+}
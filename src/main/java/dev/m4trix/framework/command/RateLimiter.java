@@ -0,0 +1,127 @@
+package dev.m4trix.framework.command;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+final class RateLimiter {
+
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long SCALE = 1000L;
+    private static final int SLOTS = 4096;
+    private static final int MAXIMUM_PROBES = 16;
+    private static final long REPORT_INTERVAL = 1024L;
+
+    private final long capacity;
+    private final long periodMillis;
+    private final long origin;
+    private final AtomicLongArray table;
+    private final AtomicLong saturations;
+    private final Logger logger;
+
+    RateLimiter(RateLimit limit, long now, Logger logger) {
+        this.capacity = limit.getPermits() * SCALE;
+        this.periodMillis = limit.getPeriodMillis();
+        this.origin = now;
+        this.table = new AtomicLongArray(SLOTS * 2);
+        this.saturations = new AtomicLong();
+        this.logger = logger;
+    }
+
+    boolean tryAcquire(UUID owner, long now) {
+        long key = keyOf(owner);
+        long time = Math.max(0L, now - origin);
+        int mask = SLOTS - 1;
+        int index = (int) (key ^ (key >>> 32)) & mask;
+        int oldest = -1;
+        long oldestTime = Long.MAX_VALUE;
+
+        for (int probe = 0; probe < MAXIMUM_PROBES; probe++) {
+            int slot = ((index + probe) & mask) * 2;
+            long current = table.get(slot);
+
+            if (current == key) {
+                return consume(slot + 1, time);
+            }
+            if (current == 0L || isIdle(table.get(slot + 1), time)) {
+                if (table.compareAndSet(slot, current, key)) {
+                    table.set(slot + 1, pack(time, capacity - SCALE));
+                    return true;
+                }
+                if (table.get(slot) == key) {
+                    return consume(slot + 1, time);
+                }
+            }
+
+            long last = table.get(slot + 1) >>> TOKEN_BITS;
+            if (last < oldestTime) {
+                oldestTime = last;
+                oldest = slot;
+            }
+        }
+        return evict(oldest, key, time);
+    }
+
+    long getSaturations() {
+        return saturations.get();
+    }
+
+    private boolean evict(int slot, long key, long time) {
+        long count = saturations.incrementAndGet();
+        if (count % REPORT_INTERVAL == 1L) {
+            logger.warning("Rate limit table saturated, evicted the least recently used bucket ("
+                    + count + " evictions so far)");
+        }
+
+        long current = table.get(slot);
+        if (table.compareAndSet(slot, current, key)) {
+            table.set(slot + 1, pack(time, capacity - SCALE));
+            return true;
+        }
+        return table.get(slot) == key && consume(slot + 1, time);
+    }
+
+    private boolean consume(int slot, long time) {
+        while (true) {
+            long state = table.get(slot);
+            long tokens = refill(state, time);
+            if (tokens < SCALE) {
+                return false;
+            }
+            if (table.compareAndSet(slot, state, pack(time, tokens - SCALE))) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isIdle(long state, long time) {
+        return refill(state, time) >= capacity;
+    }
+
+    private long refill(long state, long time) {
+        long last = state >>> TOKEN_BITS;
+        long tokens = state & TOKEN_MASK;
+        long elapsed = time - last;
+        if (elapsed <= 0L) {
+            return tokens;
+        }
+        if (elapsed >= periodMillis) {
+            return capacity;
+        }
+        return Math.min(capacity, tokens + elapsed * capacity / periodMillis);
+    }
+
+    private static long pack(long time, long tokens) {
+        return (time << TOKEN_BITS) | tokens;
+    }
+
+    private static long keyOf(UUID owner) {
+        long h = owner.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ owner.getLeastSignificantBits();
+        h ^= h >>> 31;
+        h *= 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 29;
+        return h == 0L ? 1L : h;
+    }
+}
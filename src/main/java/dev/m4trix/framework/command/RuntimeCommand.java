@@ -0,0 +1,63 @@
+package dev.m4trix.framework.command;
+
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandException;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.PluginIdentifiableCommand;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collections;
+import java.util.List;
+
+final class RuntimeCommand extends Command implements PluginIdentifiableCommand {
+
+    private final Plugin plugin;
+    private final CommandExecutor executor;
+    private final TabCompleter completer;
+
+    RuntimeCommand(String name, List<String> aliases, Plugin plugin, CommandExecutor executor) {
+        super(name, "", "/" + name, aliases);
+        this.plugin = plugin;
+        this.executor = executor;
+        this.completer = executor instanceof TabCompleter ? (TabCompleter) executor : null;
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String commandLabel, String[] args) {
+        if (!plugin.isEnabled()) {
+            throw new CommandException("Cannot execute command '" + commandLabel + "' in plugin "
+                    + plugin.getName() + " - plugin is disabled.");
+        }
+        if (!testPermission(sender)) {
+            return true;
+        }
+
+        try {
+            return executor.onCommand(sender, this, commandLabel, args);
+        } catch (RuntimeException e) {
+            throw new CommandException("Unhandled exception executing command '" + commandLabel + "' in plugin "
+                    + plugin.getName(), e);
+        }
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String alias, String[] args) {
+        if (completer == null || !plugin.isEnabled()) {
+            return Collections.emptyList();
+        }
+
+        List<String> completions = completer.onTabComplete(sender, this, alias, args);
+        return completions != null ? completions : Collections.emptyList();
+    }
+
+    @Override
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    CommandExecutor getExecutor() {
+        return executor;
+    }
+}
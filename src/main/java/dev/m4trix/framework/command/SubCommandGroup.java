@@ -0,0 +1,77 @@
+package dev.m4trix.framework.command;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SubCommandGroup implements CommandHandler {
+
+    private final CommandTrie trie;
+    private final Map<String, CommandHandler> subCommands;
+    private final String permission;
+
+    public SubCommandGroup() {
+        this(null);
+    }
+
+    public SubCommandGroup(String permission) {
+        this.trie = new CommandTrie();
+        this.subCommands = new LinkedHashMap<>();
+        this.permission = permission;
+    }
+
+    public final SubCommandGroup register(String name, CommandHandler handler, String... aliases) {
+        if (name == null || handler == null) {
+            throw new IllegalArgumentException("Subcommand name and handler cannot be null");
+        }
+
+        subCommands.put(name.toLowerCase(), handler);
+        trie.insert(name, handler);
+        for (String alias : aliases) {
+            if (alias == null) {
+                throw new IllegalArgumentException("Subcommand alias cannot be null");
+            }
+            trie.insert(alias, handler);
+        }
+        return this;
+    }
+
+    @Override
+    public final boolean execute(CommandSender sender, String[] args) {
+        return execute(sender, args, 0);
+    }
+
+    @Override
+    public final boolean execute(CommandSender sender, String[] args, int offset) {
+        if (args.length > offset && trie.get(args[offset]) != null) {
+            return trie.dispatch(sender, args, offset, null, null);
+        }
+        return executeDefault(sender, offset == 0 ? args : Arrays.copyOfRange(args, offset, args.length));
+    }
+
+    protected boolean executeDefault(CommandSender sender, String[] args) {
+        sender.sendMessage("§cUsage: " + getUsage());
+        return true;
+    }
+
+    @Override
+    public String getPermission() {
+        return permission;
+    }
+
+    @Override
+    public String getUsage() {
+        return "<" + String.join("|", subCommands.keySet()) + ">";
+    }
+
+    public final Map<String, CommandHandler> getSubCommands() {
+        return Collections.unmodifiableMap(subCommands);
+    }
+
+    final CommandTrie getTrie() {
+        return trie;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.m4trix.framework.command;
+
+import dev.m4trix.framework.util.FrameworkClock;
+import org.bukkit.command.CommandSender;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+final class SuggestionCache {
+
+    private static final long TTL_MILLIS = 1000L;
+    private static final int MAXIMUM_PER_SENDER = 32;
+
+    private final Map<CommandSender, Entry> entries;
+    private final FrameworkClock clock;
+
+    SuggestionCache(FrameworkClock clock) {
+        this.entries = new WeakHashMap<>();
+        this.clock = clock;
+    }
+
+    List<String> get(CommandSender sender, String key, Supplier<List<String>> loader) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(sender);
+            if (entry != null && now - entry.created <= TTL_MILLIS) {
+                List<String> cached = entry.results.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        List<String> loaded = loader.get();
+        synchronized (entries) {
+            Entry entry = entries.get(sender);
+            if (entry == null || now - entry.created > TTL_MILLIS || entry.results.size() >= MAXIMUM_PER_SENDER) {
+                entry = new Entry(now);
+                entries.put(sender, entry);
+            }
+            entry.results.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    void invalidate(CommandSender sender) {
+        synchronized (entries) {
+            entries.remove(sender);
+        }
+    }
+
+    private static final class Entry {
+        private final long created;
+        private final Map<String, List<String>> results;
+
+        Entry(long created) {
+            this.created = created;
+            this.results = new HashMap<>();
+        }
+    }
+}
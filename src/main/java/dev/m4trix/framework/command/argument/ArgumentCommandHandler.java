@@ -0,0 +1,56 @@
+package dev.m4trix.framework.command.argument;
+
+import dev.m4trix.framework.command.CommandHandler;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import java.util.List;
+
+public abstract class ArgumentCommandHandler implements CommandHandler, TabCompleter {
+
+    private final ArgumentParser parser;
+
+    protected ArgumentCommandHandler(ArgumentParser parser) {
+        if (parser == null) {
+            throw new IllegalArgumentException("Argument parser cannot be null");
+        }
+        this.parser = parser;
+    }
+
+    protected abstract boolean execute(CommandSender sender, ParseResult arguments);
+
+    @Override
+    public final boolean execute(CommandSender sender, String[] args) {
+        return execute(sender, args, 0);
+    }
+
+    @Override
+    public final boolean execute(CommandSender sender, String[] args, int offset) {
+        ParseResult result = parser.parse(sender, args, offset);
+        if (!result.isSuccess()) {
+            onParseError(sender, result.getError());
+            return true;
+        }
+        return execute(sender, result);
+    }
+
+    protected void onParseError(CommandSender sender, ParseError error) {
+        sender.sendMessage("§c" + error.getMessage());
+        sender.sendMessage("§cUsage: " + getUsage());
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        return parser.complete(sender, args, 1);
+    }
+
+    @Override
+    public String getUsage() {
+        return parser.getUsage();
+    }
+
+    public final ArgumentParser getParser() {
+        return parser;
+    }
+}
@@ -0,0 +1,181 @@
+package dev.m4trix.framework.command.argument;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ArgumentParser {
+
+    private final String[] names;
+    private final ArgumentType<?>[] types;
+    private final Object[] defaults;
+    private final int required;
+    private final boolean greedy;
+    private final Map<String, Integer> indexes;
+    private final String usage;
+
+    private ArgumentParser(Builder builder) {
+        int size = builder.names.size();
+        this.names = builder.names.toArray(new String[0]);
+        this.types = builder.types.toArray(new ArgumentType<?>[0]);
+        this.defaults = builder.defaults.toArray();
+        this.required = builder.required;
+        this.greedy = size > 0 && types[size - 1].isGreedy();
+
+        Map<String, Integer> map = new HashMap<>(size * 2);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            map.put(names[i], i);
+            if (i > 0) {
+                text.append(' ');
+            }
+            boolean optional = i >= required;
+            text.append(optional ? '[' : '<').append(names[i]).append(':').append(types[i].getTypeName())
+                    .append(optional ? ']' : '>');
+        }
+        this.indexes = Collections.unmodifiableMap(map);
+        this.usage = text.toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public ParseResult parse(CommandSender sender, String[] args) {
+        return parse(sender, args, 0);
+    }
+
+    public ParseResult parse(CommandSender sender, String[] args, int offset) {
+        int available = args.length - offset;
+        Object[] values = new Object[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            int position = offset + i;
+            if (i >= available) {
+                if (i < required) {
+                    return failure(values, ParseError.Reason.MISSING_ARGUMENT, i, null);
+                }
+                values[i] = defaults[i];
+                continue;
+            }
+
+            String input = types[i].isGreedy() ? join(args, position) : args[position];
+            Object value = types[i].parse(sender, input);
+            if (value == null) {
+                return failure(values, types[i].getFailureReason(sender, input), i, input);
+            }
+            values[i] = value;
+        }
+
+        if (!greedy && available > types.length) {
+            return failure(values, ParseError.Reason.TOO_MANY_ARGUMENTS, types.length, args[offset + types.length]);
+        }
+        return new ParseResult(indexes, values, null);
+    }
+
+    public List<String> complete(CommandSender sender, String[] args, int offset) {
+        int index = args.length - offset - 1;
+        if (index < 0 || types.length == 0) {
+            return Collections.emptyList();
+        }
+        if (index >= types.length) {
+            if (!greedy) {
+                return Collections.emptyList();
+            }
+            index = types.length - 1;
+        }
+        return types[index].complete(sender, args[args.length - 1]);
+    }
+
+    public String getUsage() {
+        return usage;
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public ArgumentType<?> getType(int index) {
+        return types[index];
+    }
+
+    public int getRequiredCount() {
+        return required;
+    }
+
+    private ParseResult failure(Object[] values, ParseError.Reason reason, int index, String input) {
+        String name = index < names.length ? names[index] : null;
+        return new ParseResult(indexes, values, new ParseError(reason, name, index, input));
+    }
+
+    private static String join(String[] args, int from) {
+        if (from == args.length - 1) {
+            return args[from];
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = from; i < args.length; i++) {
+            if (i > from) {
+                builder.append(' ');
+            }
+            builder.append(args[i]);
+        }
+        return builder.toString();
+    }
+
+    public static final class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<ArgumentType<?>> types = new ArrayList<>();
+        private final List<Object> defaults = new ArrayList<>();
+        private int required;
+
+        private Builder() {
+        }
+
+        public Builder required(String name, ArgumentType<?> type) {
+            if (required != names.size()) {
+                throw new IllegalStateException("Required argument cannot follow an optional one: " + name);
+            }
+            add(name, type, null);
+            required++;
+            return this;
+        }
+
+        public <T> Builder optional(String name, ArgumentType<T> type, T defaultValue) {
+            add(name, type, defaultValue);
+            return this;
+        }
+
+        public Builder optional(String name, ArgumentType<?> type) {
+            add(name, type, null);
+            return this;
+        }
+
+        public ArgumentParser build() {
+            return new ArgumentParser(this);
+        }
+
+        private void add(String name, ArgumentType<?> type, Object defaultValue) {
+            if (name == null || type == null) {
+                throw new IllegalArgumentException("Argument name and type cannot be null");
+            }
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("Duplicate argument: " + name);
+            }
+            if (!types.isEmpty() && types.get(types.size() - 1).isGreedy()) {
+                throw new IllegalStateException("No argument can follow a greedy argument: " + name);
+            }
+            names.add(name);
+            types.add(type);
+            defaults.add(defaultValue);
+        }
+    }
+}
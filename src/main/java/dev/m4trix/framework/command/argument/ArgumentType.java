@@ -0,0 +1,36 @@
+package dev.m4trix.framework.command.argument;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+
+public interface ArgumentType<T> {
+
+    T parse(CommandSender sender, String input);
+
+    ParseError.Reason getFailureReason(CommandSender sender, String input);
+
+    String getTypeName();
+
+    default boolean isGreedy() {
+        return false;
+    }
+
+    default List<String> complete(CommandSender sender, String prefix) {
+        return Collections.emptyList();
+    }
+
+    default com.mojang.brigadier.arguments.ArgumentType<?> getBrigadierType() {
+        return isGreedy() ? StringArgumentType.greedyString() : StringArgumentType.word();
+    }
+
+    default List<String> getChoices() {
+        return Collections.emptyList();
+    }
+
+    default boolean hasDynamicSuggestions() {
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+package dev.m4trix.framework.command.argument;
+
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+
+public final class Arguments {
+
+    private static final PlayerArgument PLAYER = new PlayerArgument();
+    private static final IntegerArgument INTEGER = new IntegerArgument(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    private static final DurationArgument DURATION = new DurationArgument();
+    private static final BooleanArgument BOOLEAN = new BooleanArgument();
+
+    private Arguments() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static ArgumentType<Player> player() {
+        return PLAYER;
+    }
+
+    public static ArgumentType<Integer> integer() {
+        return INTEGER;
+    }
+
+    public static ArgumentType<Integer> integer(int minimum, int maximum) {
+        return new IntegerArgument(minimum, maximum);
+    }
+
+    public static ArgumentType<Duration> duration() {
+        return DURATION;
+    }
+
+    public static ArgumentType<Boolean> bool() {
+        return BOOLEAN;
+    }
+
+    public static <E extends Enum<E>> ArgumentType<E> choice(Class<E> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Enum type cannot be null");
+        }
+        return new EnumArgument<>(type);
+    }
+
+    public static ArgumentType<String> word() {
+        return StringArgument.WORD;
+    }
+
+    public static ArgumentType<String> greedyString() {
+        return StringArgument.GREEDY;
+    }
+}
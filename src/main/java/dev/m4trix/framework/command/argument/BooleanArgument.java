@@ -0,0 +1,54 @@
+package dev.m4trix.framework.command.argument;
+
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BooleanArgument implements ArgumentType<Boolean> {
+
+    private static final String[] NAMES = {"true", "false"};
+
+    @Override
+    public Boolean parse(CommandSender sender, String input) {
+        if (input.equalsIgnoreCase("true") || input.equalsIgnoreCase("yes") || input.equalsIgnoreCase("on")) {
+            return Boolean.TRUE;
+        }
+        if (input.equalsIgnoreCase("false") || input.equalsIgnoreCase("no") || input.equalsIgnoreCase("off")) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    @Override
+    public ParseError.Reason getFailureReason(CommandSender sender, String input) {
+        return ParseError.Reason.INVALID_BOOLEAN;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "true|false";
+    }
+
+    @Override
+    public List<String> complete(CommandSender sender, String prefix) {
+        List<String> completions = new ArrayList<>(2);
+        for (String name : NAMES) {
+            if (name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                completions.add(name);
+            }
+        }
+        return completions;
+    }
+
+    @Override
+    public com.mojang.brigadier.arguments.ArgumentType<?> getBrigadierType() {
+        return BoolArgumentType.bool();
+    }
+
+    @Override
+    public boolean hasDynamicSuggestions() {
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.m4trix.framework.command.argument;
+
+import org.bukkit.command.CommandSender;
+
+import java.time.Duration;
+
+final class DurationArgument implements ArgumentType<Duration> {
+
+    private static final long INVALID = -1L;
+    private static final long MAXIMUM_MILLIS = 1000L * 60 * 60 * 24 * 365 * 100;
+
+    @Override
+    public Duration parse(CommandSender sender, String input) {
+        long millis = parseMillis(input);
+        return millis == INVALID ? null : Duration.ofMillis(millis);
+    }
+
+    @Override
+    public ParseError.Reason getFailureReason(CommandSender sender, String input) {
+        return ParseError.Reason.INVALID_DURATION;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "duration";
+    }
+
+    static long parseMillis(String input) {
+        int length = input.length();
+        if (length == 0) {
+            return INVALID;
+        }
+
+        long total = 0;
+        long number = -1;
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(input.charAt(i));
+            if (c >= '0' && c <= '9') {
+                number = (number < 0 ? 0 : number) * 10 + (c - '0');
+                if (number > MAXIMUM_MILLIS) {
+                    return INVALID;
+                }
+                continue;
+            }
+            if (number < 0) {
+                return INVALID;
+            }
+
+            long unit;
+            if (c == 'm' && i + 1 < length && Character.toLowerCase(input.charAt(i + 1)) == 's') {
+                unit = 1L;
+                i++;
+            } else if (c == 's') {
+                unit = 1000L;
+            } else if (c == 'm') {
+                unit = 60_000L;
+            } else if (c == 'h') {
+                unit = 3_600_000L;
+            } else if (c == 'd') {
+                unit = 86_400_000L;
+            } else if (c == 'w') {
+                unit = 604_800_000L;
+            } else {
+                return INVALID;
+            }
+
+            total = add(total, number, unit);
+            if (total == INVALID) {
+                return INVALID;
+            }
+            number = -1;
+        }
+
+        return number >= 0 ? add(total, number, 1000L) : total;
+    }
+
+    private static long add(long total, long number, long unit) {
+        if (number > (MAXIMUM_MILLIS - total) / unit) {
+            return INVALID;
+        }
+        return total + number * unit;
+    }
+
+    @Override
+    public boolean hasDynamicSuggestions() {
+        return false;
+    }
+}
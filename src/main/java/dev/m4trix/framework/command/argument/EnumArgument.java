@@ -0,0 +1,65 @@
+package dev.m4trix.framework.command.argument;
+
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class EnumArgument<E extends Enum<E>> implements ArgumentType<E> {
+
+    private final Map<String, E> constants;
+    private final String[] names;
+    private final String typeName;
+
+    EnumArgument(Class<E> type) {
+        E[] values = type.getEnumConstants();
+        this.constants = new HashMap<>(values.length * 2);
+        this.names = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name().toLowerCase(Locale.ROOT);
+            constants.put(names[i], values[i]);
+        }
+        this.typeName = type.getSimpleName().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public E parse(CommandSender sender, String input) {
+        E value = constants.get(input);
+        return value != null ? value : constants.get(input.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public ParseError.Reason getFailureReason(CommandSender sender, String input) {
+        return ParseError.Reason.INVALID_CHOICE;
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public List<String> complete(CommandSender sender, String prefix) {
+        List<String> completions = new ArrayList<>();
+        for (String name : names) {
+            if (name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                completions.add(name);
+            }
+        }
+        return completions;
+    }
+
+    @Override
+    public List<String> getChoices() {
+        return Arrays.asList(names);
+    }
+
+    @Override
+    public boolean hasDynamicSuggestions() {
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.m4trix.framework.command.argument;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import org.bukkit.command.CommandSender;
+
+final class IntegerArgument implements ArgumentType<Integer> {
+
+    private static final long INVALID = Long.MIN_VALUE;
+
+    private final int minimum;
+    private final int maximum;
+
+    IntegerArgument(int minimum, int maximum) {
+        if (minimum > maximum) {
+            throw new IllegalArgumentException("Minimum cannot be greater than maximum");
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+    }
+
+    @Override
+    public Integer parse(CommandSender sender, String input) {
+        long value = parseLong(input);
+        if (value == INVALID || value < minimum || value > maximum) {
+            return null;
+        }
+        return (int) value;
+    }
+
+    @Override
+    public ParseError.Reason getFailureReason(CommandSender sender, String input) {
+        return parseLong(input) == INVALID ? ParseError.Reason.INVALID_NUMBER : ParseError.Reason.OUT_OF_RANGE;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "number";
+    }
+
+    static long parseLong(String input) {
+        int length = input.length();
+        if (length == 0 || length > 11) {
+            return INVALID;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == length) {
+                return INVALID;
+            }
+        }
+
+        long value = 0;
+        for (; i < length; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    @Override
+    public com.mojang.brigadier.arguments.ArgumentType<?> getBrigadierType() {
+        return IntegerArgumentType.integer(minimum, maximum);
+    }
+
+    @Override
+    public boolean hasDynamicSuggestions() {
+        return false;
+    }
+}
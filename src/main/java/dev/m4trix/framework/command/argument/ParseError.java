@@ -0,0 +1,71 @@
+package dev.m4trix.framework.command.argument;
+
+public final class ParseError {
+
+    public enum Reason {
+        MISSING_ARGUMENT,
+        TOO_MANY_ARGUMENTS,
+        INVALID_NUMBER,
+        OUT_OF_RANGE,
+        INVALID_DURATION,
+        INVALID_BOOLEAN,
+        INVALID_CHOICE,
+        UNKNOWN_PLAYER
+    }
+
+    private final Reason reason;
+    private final String argument;
+    private final int index;
+    private final String input;
+
+    ParseError(Reason reason, String argument, int index, String input) {
+        this.reason = reason;
+        this.argument = argument;
+        this.index = index;
+        this.input = input;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public String getArgument() {
+        return argument;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public String getMessage() {
+        switch (reason) {
+            case MISSING_ARGUMENT:
+                return "Missing argument: " + argument;
+            case TOO_MANY_ARGUMENTS:
+                return "Too many arguments, unexpected: " + input;
+            case INVALID_NUMBER:
+                return "'" + input + "' is not a valid number for " + argument;
+            case OUT_OF_RANGE:
+                return "'" + input + "' is out of range for " + argument;
+            case INVALID_DURATION:
+                return "'" + input + "' is not a valid duration for " + argument + " (e.g. 1h30m, 45s)";
+            case INVALID_BOOLEAN:
+                return "'" + input + "' is not true or false for " + argument;
+            case INVALID_CHOICE:
+                return "'" + input + "' is not a valid choice for " + argument;
+            case UNKNOWN_PLAYER:
+                return "Player not found: " + input;
+            default:
+                return "Invalid argument: " + argument;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParseError{" + reason + ", argument=" + argument + ", index=" + index + ", input=" + input + "}";
+    }
+}
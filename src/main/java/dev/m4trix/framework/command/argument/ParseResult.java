@@ -0,0 +1,47 @@
+package dev.m4trix.framework.command.argument;
+
+import java.util.Map;
+
+public final class ParseResult {
+
+    private final Map<String, Integer> indexes;
+    private final Object[] values;
+    private final ParseError error;
+
+    ParseResult(Map<String, Integer> indexes, Object[] values, ParseError error) {
+        this.indexes = indexes;
+        this.values = values;
+        this.error = error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public ParseError getError() {
+        return error;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name) {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown argument: " + name);
+        }
+        return (T) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        return (T) values[index];
+    }
+
+    public int getInt(String name) {
+        return this.<Integer>get(name);
+    }
+
+    public boolean has(String name) {
+        Integer index = indexes.get(name);
+        return index != null && values[index] != null;
+    }
+}
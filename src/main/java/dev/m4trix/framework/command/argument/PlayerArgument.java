@@ -0,0 +1,38 @@
+package dev.m4trix.framework.command.argument;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class PlayerArgument implements ArgumentType<Player> {
+
+    @Override
+    public Player parse(CommandSender sender, String input) {
+        return Bukkit.getPlayerExact(input);
+    }
+
+    @Override
+    public ParseError.Reason getFailureReason(CommandSender sender, String input) {
+        return ParseError.Reason.UNKNOWN_PLAYER;
+    }
+
+    @Override
+    public String getTypeName() {
+        return "player";
+    }
+
+    @Override
+    public List<String> complete(CommandSender sender, String prefix) {
+        List<String> completions = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            String name = player.getName();
+            if (name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                completions.add(name);
+            }
+        }
+        return completions;
+    }
+}
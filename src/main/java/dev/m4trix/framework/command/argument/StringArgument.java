@@ -0,0 +1,40 @@
+package dev.m4trix.framework.command.argument;
+
+import org.bukkit.command.CommandSender;
+
+final class StringArgument implements ArgumentType<String> {
+
+    static final StringArgument WORD = new StringArgument(false);
+    static final StringArgument GREEDY = new StringArgument(true);
+
+    private final boolean greedy;
+
+    private StringArgument(boolean greedy) {
+        this.greedy = greedy;
+    }
+
+    @Override
+    public String parse(CommandSender sender, String input) {
+        return input;
+    }
+
+    @Override
+    public ParseError.Reason getFailureReason(CommandSender sender, String input) {
+        return ParseError.Reason.MISSING_ARGUMENT;
+    }
+
+    @Override
+    public String getTypeName() {
+        return greedy ? "text" : "word";
+    }
+
+    @Override
+    public boolean isGreedy() {
+        return greedy;
+    }
+
+    @Override
+    public boolean hasDynamicSuggestions() {
+        return false;
+    }
+}
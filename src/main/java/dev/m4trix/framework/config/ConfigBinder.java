@@ -0,0 +1,220 @@
+package dev.m4trix.framework.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ConfigBinder<T> {
+
+    private static final Map<Class<?>, ConfigBinder<?>> BINDERS = new ConcurrentHashMap<>();
+
+    private final Class<T> type;
+    private final Constructor<T> constructor;
+    private final String[] paths;
+    private final Converter[] converters;
+
+    private ConfigBinder(Class<T> type, Set<Class<?>> visiting) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("Config bindings must be records: " + type.getName());
+        }
+
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        this.type = type;
+        this.paths = new String[components.length];
+        this.converters = new Converter[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            ConfigKey key = component.getAnnotation(ConfigKey.class);
+            parameterTypes[i] = component.getType();
+            paths[i] = key != null ? key.value() : component.getName();
+            converters[i] = converterFor(component.getType(), component.getGenericType(), type, visiting);
+        }
+
+        try {
+            this.constructor = type.getDeclaredConstructor(parameterTypes);
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No canonical constructor on " + type.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ConfigBinder<T> of(Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Binding type cannot be null");
+        }
+        return of(type, new HashSet<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ConfigBinder<T> of(Class<T> type, Set<Class<?>> visiting) {
+        ConfigBinder<?> binder = BINDERS.get(type);
+        if (binder == null) {
+            if (!visiting.add(type)) {
+                throw new IllegalArgumentException("Config binding " + type.getName() + " contains itself");
+            }
+            ConfigBinder<?> created = new ConfigBinder<>(type, visiting);
+            visiting.remove(type);
+            binder = BINDERS.putIfAbsent(type, created);
+            if (binder == null) {
+                binder = created;
+            }
+        }
+        return (ConfigBinder<T>) binder;
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    T bind(ConfigurationSection section) {
+        List<String> errors = new ArrayList<>();
+        T value = bind(section, "", errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName() + ": " + String.join("; ", errors));
+        }
+        return value;
+    }
+
+    private T bind(ConfigurationSection section, String prefix, List<String> errors) {
+        Object[] arguments = new Object[paths.length];
+        int failures = errors.size();
+
+        for (int i = 0; i < paths.length; i++) {
+            String path = prefix + paths[i];
+            Object raw = section != null ? section.get(paths[i]) : null;
+            if (raw == null) {
+                errors.add(path + " is missing");
+                continue;
+            }
+            arguments[i] = converters[i].convert(raw, path, errors);
+        }
+
+        if (errors.size() > failures) {
+            return null;
+        }
+
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            errors.add((prefix.isEmpty() ? type.getSimpleName() : prefix) + " rejected: " + cause.getMessage());
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to construct " + type.getName(), e);
+        }
+    }
+
+    private static Converter converterFor(Class<?> raw, Type generic, Class<?> owner, Set<Class<?>> visiting) {
+        if (raw == boolean.class || raw == Boolean.class) {
+            return (value, path, errors) -> value instanceof Boolean ? value : mismatch("boolean", value, path, errors);
+        }
+        if (raw == int.class || raw == Integer.class) {
+            return (value, path, errors) -> integral(value, Integer.MIN_VALUE, Integer.MAX_VALUE, path, errors,
+                    "int") ? ((Number) value).intValue() : null;
+        }
+        if (raw == long.class || raw == Long.class) {
+            return (value, path, errors) -> integral(value, Long.MIN_VALUE, Long.MAX_VALUE, path, errors,
+                    "long") ? ((Number) value).longValue() : null;
+        }
+        if (raw == double.class || raw == Double.class) {
+            return (value, path, errors) -> value instanceof Number
+                    ? ((Number) value).doubleValue() : mismatch("number", value, path, errors);
+        }
+        if (raw == float.class || raw == Float.class) {
+            return (value, path, errors) -> value instanceof Number
+                    ? ((Number) value).floatValue() : mismatch("number", value, path, errors);
+        }
+        if (raw == String.class) {
+            return (value, path, errors) -> value instanceof ConfigurationSection || value instanceof List
+                    ? mismatch("string", value, path, errors) : value.toString();
+        }
+        if (raw.isEnum()) {
+            return enumConverter(raw);
+        }
+        if (raw == List.class) {
+            Type element = generic instanceof ParameterizedType
+                    ? ((ParameterizedType) generic).getActualTypeArguments()[0] : Object.class;
+            Class<?> elementType = element instanceof Class ? (Class<?>) element
+                    : element instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) element).getRawType()
+                    : Object.class;
+            Converter elements = elementType == Object.class
+                    ? (value, path, errors) -> value : converterFor(elementType, element, owner, visiting);
+            return (value, path, errors) -> {
+                if (!(value instanceof List)) {
+                    return mismatch("list", value, path, errors);
+                }
+                List<?> list = (List<?>) value;
+                List<Object> converted = new ArrayList<>(list.size());
+                for (int i = 0; i < list.size(); i++) {
+                    Object item = list.get(i);
+                    String itemPath = path + "[" + i + "]";
+                    converted.add(item != null ? elements.convert(item, itemPath, errors) : null);
+                }
+                return Collections.unmodifiableList(converted);
+            };
+        }
+        if (raw.isRecord()) {
+            ConfigBinder<?> nested = of(raw, visiting);
+            return (value, path, errors) -> value instanceof ConfigurationSection
+                    ? nested.bind((ConfigurationSection) value, path + ".", errors)
+                    : mismatch("section", value, path, errors);
+        }
+        throw new IllegalArgumentException("Unsupported config binding type " + raw.getName() + " in "
+                + owner.getName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Converter enumConverter(Class<?> raw) {
+        Class<? extends Enum> enumType = (Class<? extends Enum>) raw;
+        return (value, path, errors) -> {
+            if (!(value instanceof String)) {
+                return mismatch(enumType.getSimpleName(), value, path, errors);
+            }
+            try {
+                return Enum.valueOf(enumType, ((String) value).trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                errors.add(path + " is not a valid " + enumType.getSimpleName() + ": " + value);
+                return null;
+            }
+        };
+    }
+
+    private static boolean integral(Object value, long min, long max, String path, List<String> errors,
+                                    String expected) {
+        if (!(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) {
+            mismatch(expected, value, path, errors);
+            return false;
+        }
+        long number = ((Number) value).longValue();
+        if (number < min || number > max) {
+            errors.add(path + " is out of range for " + expected + ": " + number);
+            return false;
+        }
+        return true;
+    }
+
+    private static Object mismatch(String expected, Object value, String path, List<String> errors) {
+        errors.add(path + " expects " + expected + " but was " + value.getClass().getSimpleName());
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface Converter {
+        Object convert(Object value, String path, List<String> errors);
+    }
+}
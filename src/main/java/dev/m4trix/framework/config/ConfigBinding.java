@@ -0,0 +1,36 @@
+package dev.m4trix.framework.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+public final class ConfigBinding<T> {
+
+    private final String name;
+    private final ConfigBinder<T> binder;
+    private volatile T value;
+
+    ConfigBinding(String name, ConfigBinder<T> binder, T value) {
+        this.name = name;
+        this.binder = binder;
+        this.value = value;
+    }
+
+    public T get() {
+        return value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<T> getType() {
+        return binder.getType();
+    }
+
+    T bind(ConfigurationSection section) {
+        return binder.bind(section);
+    }
+
+    void set(Object value) {
+        this.value = binder.getType().cast(value);
+    }
+}
@@ -0,0 +1,296 @@
+package dev.m4trix.framework.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ConfigCache {
+
+    private static final int MAGIC = 0x4D344359;
+    private static final int VERSION = 2;
+    private static final int DIGEST_LENGTH = 32;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte TRUE = 2;
+    private static final byte FALSE = 3;
+    private static final byte INT = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte LIST = 8;
+    private static final byte MAP = 9;
+    private static final byte SECTION = 10;
+
+    private ConfigCache() {
+    }
+
+    static Path pathFor(Path source) {
+        return source.resolveSibling("." + source.getFileName() + ".cache");
+    }
+
+    static byte[] digest(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static FileConfiguration read(Path file, byte[] digest, long length) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != length) {
+                return null;
+            }
+            byte[] stored = new byte[DIGEST_LENGTH];
+            buffer.get(stored);
+            if (!MessageDigest.isEqual(stored, digest)) {
+                return null;
+            }
+
+            YamlConfiguration config = new YamlConfiguration();
+            List<String> header = readStrings(buffer);
+            List<String> footer = readStrings(buffer);
+            readSection(buffer, config);
+            if (buffer.hasRemaining()) {
+                return null;
+            }
+
+            if (header != null) {
+                config.options().setHeader(header);
+            }
+            if (footer != null) {
+                config.options().setFooter(footer);
+            }
+            return config;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static boolean write(Path file, FileConfiguration config, byte[] digest, long length) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(length);
+            out.write(digest);
+            writeStrings(out, config.options().getHeader());
+            writeStrings(out, config.options().getFooter());
+            writeSection(out, config);
+        } catch (UnsupportedValueException e) {
+            Files.deleteIfExists(file);
+            return false;
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, bytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    private static void writeSection(DataOutputStream out, ConfigurationSection section) throws IOException {
+        Map<String, Object> values = section.getValues(false);
+        out.writeInt(values.size());
+
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            String key = entry.getKey();
+            writeString(out, key);
+            writeStrings(out, section.getComments(key));
+            writeStrings(out, section.getInlineComments(key));
+
+            Object value = entry.getValue();
+            if (value instanceof ConfigurationSection) {
+                out.writeByte(SECTION);
+                writeSection(out, (ConfigurationSection) value);
+            } else {
+                writeValue(out, value);
+            }
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new UnsupportedValueException();
+        }
+    }
+
+    private static void readSection(ByteBuffer buffer, ConfigurationSection section) {
+        int count = readCount(buffer);
+        for (int i = 0; i < count; i++) {
+            String key = readString(buffer);
+            List<String> comments = readStrings(buffer);
+            List<String> inlineComments = readStrings(buffer);
+
+            if (buffer.get(buffer.position()) == SECTION) {
+                buffer.get();
+                readSection(buffer, section.createSection(key));
+            } else {
+                section.set(key, readValue(buffer));
+            }
+
+            if (comments != null && !comments.isEmpty()) {
+                section.setComments(key, comments);
+            }
+            if (inlineComments != null && !inlineComments.isEmpty()) {
+                section.setInlineComments(key, inlineComments);
+            }
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(buffer);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case INT:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case FLOAT:
+                return buffer.getFloat();
+            case LIST:
+                int size = readCount(buffer);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                return list;
+            case MAP:
+                int entries = readCount(buffer);
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    map.put(readValue(buffer), readValue(buffer));
+                }
+                return map;
+            default:
+                throw new IllegalArgumentException("Unknown value tag: " + tag);
+        }
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+        return count;
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count == -1) {
+            return null;
+        }
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(buffer.get() == NULL ? null : readString(buffer));
+        }
+        return strings;
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+        if (strings == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            if (string == null) {
+                out.writeByte(NULL);
+            } else {
+                out.writeByte(STRING);
+                writeString(out, string);
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static final class UnsupportedValueException extends IOException {
+    }
+}
@@ -0,0 +1,123 @@
+package dev.m4trix.framework.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public final class ConfigChange {
+
+    private final String name;
+    private final FileConfiguration configuration;
+    private final Map<String, Object> oldValues;
+    private final Map<String, Object> newValues;
+    private final Set<String> added;
+    private final Set<String> removed;
+    private final Set<String> modified;
+
+    private ConfigChange(String name, FileConfiguration configuration, Map<String, Object> oldValues,
+                         Map<String, Object> newValues) {
+        this.name = name;
+        this.configuration = configuration;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+
+        Set<String> added = new LinkedHashSet<>();
+        Set<String> modified = new LinkedHashSet<>();
+        for (Map.Entry<String, Object> entry : newValues.entrySet()) {
+            if (!oldValues.containsKey(entry.getKey())) {
+                added.add(entry.getKey());
+            } else if (!Objects.equals(oldValues.get(entry.getKey()), entry.getValue())) {
+                modified.add(entry.getKey());
+            }
+        }
+
+        Set<String> removed = new LinkedHashSet<>();
+        for (String key : oldValues.keySet()) {
+            if (!newValues.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+
+        this.added = Collections.unmodifiableSet(added);
+        this.removed = Collections.unmodifiableSet(removed);
+        this.modified = Collections.unmodifiableSet(modified);
+    }
+
+    static ConfigChange between(String name, FileConfiguration previous, FileConfiguration current) {
+        return new ConfigChange(name, current, leaves(previous), leaves(current));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public FileConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public Set<String> getAddedKeys() {
+        return added;
+    }
+
+    public Set<String> getRemovedKeys() {
+        return removed;
+    }
+
+    public Set<String> getModifiedKeys() {
+        return modified;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && modified.isEmpty();
+    }
+
+    public boolean hasChanged(String path) {
+        return matches(added, path) || matches(removed, path) || matches(modified, path);
+    }
+
+    public Object getOldValue(String key) {
+        return oldValues.get(key);
+    }
+
+    public Object getNewValue(String key) {
+        return newValues.get(key);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigChange{name=" + name + ", added=" + added + ", removed=" + removed
+                + ", modified=" + modified + "}";
+    }
+
+    private static boolean matches(Set<String> keys, String path) {
+        if (keys.contains(path)) {
+            return true;
+        }
+        for (String key : keys) {
+            if (key.length() > path.length() && key.startsWith(path) && key.charAt(path.length()) == '.') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Object> leaves(FileConfiguration configuration) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (configuration == null) {
+            return values;
+        }
+
+        for (Map.Entry<String, Object> entry : configuration.getValues(true).entrySet()) {
+            if (!(entry.getValue() instanceof ConfigurationSection)) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,7 @@
+package dev.m4trix.framework.config;
+
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    void onChange(ConfigChange change);
+}
@@ -0,0 +1,102 @@
+package dev.m4trix.framework.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class ConfigWatcher implements Runnable {
+
+    private static final long QUIET_MILLIS = 200L;
+
+    private final WatchService service;
+    private final Consumer<Path> onChange;
+    private final Logger logger;
+    private final Set<Path> directories;
+    private final Thread thread;
+    private volatile boolean running;
+
+    ConfigWatcher(Path root, String name, Consumer<Path> onChange, Logger logger) throws IOException {
+        this.service = root.getFileSystem().newWatchService();
+        this.onChange = onChange;
+        this.logger = logger;
+        this.directories = ConcurrentHashMap.newKeySet();
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        running = true;
+        thread.start();
+    }
+
+    void register(Path directory) {
+        Path normalized = directory.toAbsolutePath().normalize();
+        if (!directories.add(normalized)) {
+            return;
+        }
+
+        try {
+            normalized.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            directories.remove(normalized);
+            logger.log(Level.WARNING, "Failed to watch directory: " + normalized, e);
+        }
+    }
+
+    void stop() {
+        running = false;
+        try {
+            service.close();
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Failed to close config watcher", e);
+        }
+        thread.interrupt();
+    }
+
+    @Override
+    public void run() {
+        Set<Path> changed = new LinkedHashSet<>();
+        try {
+            while (running) {
+                WatchKey key = service.take();
+                do {
+                    collect(key, changed);
+                    key = service.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                for (Path path : changed) {
+                    try {
+                        onChange.accept(path);
+                    } catch (RuntimeException e) {
+                        logger.log(Level.SEVERE, "Failed to hot reload " + path, e);
+                    }
+                }
+                changed.clear();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void collect(WatchKey key, Set<Path> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            changed.add(directory.resolve((Path) event.context()));
+        }
+        key.reset();
+    }
+}
@@ -1,25 +1,68 @@
 package dev.m4trix.framework.config;
 
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
+import java.util.zip.CRC32C;
 
 public final class ConfigurationManager {
 
+    private static final long DEFAULT_SAVE_DELAY_TICKS = 10L;
+    private static final int MAXIMUM_WORKERS = 4;
+
     private final JavaPlugin plugin;
     private final Map<String, ConfigEntry> configurations;
+    private final Map<String, PendingSave> pendingSaves;
+    private final Map<String, FileState> fileStates;
+    private final Map<String, List<ConfigChangeListener>> listeners;
+    private final Map<String, List<ConfigBinding<?>>> bindings;
+    private final AtomicLong saveSequence;
+    private volatile long saveDelayTicks;
+    private volatile boolean binaryCache;
+    private ExecutorService executor;
+    private boolean closed;
+    private ConfigWatcher watcher;
 
     public ConfigurationManager(JavaPlugin plugin) {
         this.plugin = plugin;
         this.configurations = new ConcurrentHashMap<>();
+        this.pendingSaves = new ConcurrentHashMap<>();
+        this.fileStates = new ConcurrentHashMap<>();
+        this.listeners = new ConcurrentHashMap<>();
+        this.bindings = new ConcurrentHashMap<>();
+        this.saveSequence = new AtomicLong();
+        this.saveDelayTicks = DEFAULT_SAVE_DELAY_TICKS;
+        this.binaryCache = true;
     }
 
     public FileConfiguration load(String name) {
@@ -35,21 +78,47 @@ public final class ConfigurationManager {
         }
 
         File file = new File(plugin.getDataFolder(), normalizedName);
-        
-        if (!file.exists()) {
-            if (saveDefault && hasResource(normalizedName)) {
-                saveResource(normalizedName, file);
-            } else {
-                createEmptyFile(file);
-            }
-        }
+        prepareFile(normalizedName, file, saveDefault);
 
-        FileConfiguration config = YamlConfiguration.loadConfiguration(file);
+        FileConfiguration config;
+        try {
+            config = parse(normalizedName, file);
+        } catch (CompletionException e) {
+            plugin.getLogger().log(Level.SEVERE, "Cannot load " + normalizedName, unwrap(e));
+            config = new YamlConfiguration();
+        }
         configurations.put(normalizedName, new ConfigEntry(config, file));
+        watchDirectory(file);
         
         return config;
     }
 
+    public CompletableFuture<FileConfiguration> loadAsync(String name) {
+        return loadAsync(name, true);
+    }
+
+    public CompletableFuture<FileConfiguration> loadAsync(String name, boolean saveDefault) {
+        String normalizedName = normalizeName(name);
+
+        ConfigEntry cached = configurations.get(normalizedName);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.configuration);
+        }
+
+        File file = new File(plugin.getDataFolder(), normalizedName);
+        return CompletableFuture.supplyAsync(() -> {
+            prepareFile(normalizedName, file, saveDefault);
+            return parse(normalizedName, file);
+        }, executor()).thenApply(config -> {
+            ConfigEntry existing = configurations.putIfAbsent(normalizedName, new ConfigEntry(config, file));
+            if (existing != null) {
+                return existing.configuration;
+            }
+            watchDirectory(file);
+            return config;
+        });
+    }
+
     public FileConfiguration get(String name) {
         String normalizedName = normalizeName(name);
         ConfigEntry entry = configurations.get(normalizedName);
@@ -58,15 +127,42 @@ public final class ConfigurationManager {
 
     public boolean save(String name) {
         String normalizedName = normalizeName(name);
-        ConfigEntry entry = configurations.get(normalizedName);
 
+        if (!configurations.containsKey(normalizedName)) {
+            plugin.getLogger().warning("Cannot save config that hasn't been loaded: " + normalizedName);
+            return false;
+        }
+
+        scheduleSave(normalizedName);
+        return true;
+    }
+
+    public CompletableFuture<Void> saveAsync(String name) {
+        String normalizedName = normalizeName(name);
+
+        if (!configurations.containsKey(normalizedName)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Cannot save config that hasn't been loaded: " + normalizedName));
+        }
+
+        return scheduleSave(normalizedName).result;
+    }
+
+    public boolean saveNow(String name) {
+        String normalizedName = normalizeName(name);
+        PendingSave pending = pendingSaves.get(normalizedName);
+        if (pending != null && pending.runNow()) {
+            return !pending.result.isCompletedExceptionally();
+        }
+
+        ConfigEntry entry = configurations.get(normalizedName);
         if (entry == null) {
             plugin.getLogger().warning("Cannot save config that hasn't been loaded: " + normalizedName);
             return false;
         }
 
         try {
-            entry.configuration.save(entry.file);
+            write(normalizedName, entry.file, entry.configuration.saveToString(), saveSequence.incrementAndGet());
             return true;
         } catch (IOException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to save config: " + normalizedName, e);
@@ -74,6 +170,23 @@ public final class ConfigurationManager {
         }
     }
 
+    public void flush() {
+        for (PendingSave pending : new ArrayList<>(pendingSaves.values())) {
+            pending.runNow();
+        }
+    }
+
+    public void setBinaryCache(boolean enabled) {
+        this.binaryCache = enabled;
+    }
+
+    public void setSaveDelay(Duration delay) {
+        if (delay == null || delay.isNegative()) {
+            throw new IllegalArgumentException("Save delay cannot be negative");
+        }
+        this.saveDelayTicks = Math.max(1L, (delay.toMillis() + 49L) / 50L);
+    }
+
     public boolean reload(String name) {
         String normalizedName = normalizeName(name);
         ConfigEntry entry = configurations.get(normalizedName);
@@ -89,21 +202,58 @@ public final class ConfigurationManager {
         }
 
         try {
-            FileConfiguration reloaded = YamlConfiguration.loadConfiguration(entry.file);
-            configurations.put(normalizedName, new ConfigEntry(reloaded, entry.file));
-            return true;
+            FileConfiguration reloaded = parse(normalizedName, entry.file);
+            return swap(normalizedName, entry.file, reloaded);
         } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to reload config: " + normalizedName, e);
+            plugin.getLogger().log(Level.SEVERE, "Failed to reload config: " + normalizedName, unwrap(e));
             return false;
         }
     }
 
+    public CompletableFuture<Boolean> reloadAsync(String name) {
+        String normalizedName = normalizeName(name);
+        ConfigEntry entry = configurations.get(normalizedName);
+
+        if (entry == null) {
+            plugin.getLogger().warning("Cannot reload config that hasn't been loaded: " + normalizedName);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return parseAsync(normalizedName, entry.file)
+                .thenApply(config -> config != null && swap(normalizedName, entry.file, config));
+    }
+
     public void reloadAll() {
         for (String name : configurations.keySet()) {
             reload(name);
         }
     }
 
+    public CompletableFuture<Integer> reloadAllAsync() {
+        List<String> names = new ArrayList<>();
+        List<File> files = new ArrayList<>();
+        for (Map.Entry<String, ConfigEntry> entry : configurations.entrySet()) {
+            names.add(entry.getKey());
+            files.add(entry.getValue().file);
+        }
+
+        List<CompletableFuture<FileConfiguration>> parses = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            parses.add(parseAsync(names.get(i), files.get(i)));
+        }
+
+        return CompletableFuture.allOf(parses.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            int reloaded = 0;
+            for (int i = 0; i < names.size(); i++) {
+                FileConfiguration config = parses.get(i).join();
+                if (config != null && swap(names.get(i), files.get(i), config)) {
+                    reloaded++;
+                }
+            }
+            return reloaded;
+        });
+    }
+
     public boolean unload(String name) {
         String normalizedName = normalizeName(name);
         return configurations.remove(normalizedName) != null;
@@ -113,6 +263,340 @@ public final class ConfigurationManager {
         configurations.clear();
     }
 
+    public void addChangeListener(String name, ConfigChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Change listener cannot be null");
+        }
+        listeners.computeIfAbsent(normalizeName(name), key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void removeChangeListener(String name, ConfigChangeListener listener) {
+        List<ConfigChangeListener> registered = listeners.get(normalizeName(name));
+        if (registered != null) {
+            registered.remove(listener);
+        }
+    }
+
+    public <T> ConfigBinding<T> bind(String name, Class<T> type) {
+        String normalizedName = normalizeName(name);
+        ConfigBinder<T> binder = ConfigBinder.of(type);
+
+        FileConfiguration config = get(normalizedName);
+        if (config == null) {
+            config = load(normalizedName);
+        }
+
+        ConfigBinding<T> binding = new ConfigBinding<>(normalizedName, binder, binder.bind(config));
+        bindings.computeIfAbsent(normalizedName, key -> new CopyOnWriteArrayList<>()).add(binding);
+        return binding;
+    }
+
+    public void unbind(ConfigBinding<?> binding) {
+        List<ConfigBinding<?>> bound = bindings.get(binding.getName());
+        if (bound != null) {
+            bound.remove(binding);
+        }
+    }
+
+    public synchronized boolean watch() {
+        if (watcher != null) {
+            return true;
+        }
+
+        Path root = plugin.getDataFolder().toPath();
+        try {
+            Files.createDirectories(root);
+            watcher = new ConfigWatcher(root, plugin.getName() + "-ConfigWatcher", this::onFileChanged,
+                    plugin.getLogger());
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to start configuration watcher", e);
+            return false;
+        }
+
+        watcher.register(root);
+        for (ConfigEntry entry : configurations.values()) {
+            watcher.register(entry.file.toPath().toAbsolutePath().getParent());
+        }
+        watcher.start();
+        return true;
+    }
+
+    public synchronized void stopWatching() {
+        if (watcher != null) {
+            watcher.stop();
+            watcher = null;
+        }
+    }
+
+    public synchronized boolean isWatching() {
+        return watcher != null;
+    }
+
+    public void shutdown() {
+        stopWatching();
+        flush();
+
+        ExecutorService workers;
+        synchronized (this) {
+            workers = executor;
+            executor = null;
+            closed = true;
+        }
+        if (workers == null) {
+            return;
+        }
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10L, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for configuration writes to finish");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean swap(String name, File file, FileConfiguration config) {
+        List<ConfigBinding<?>> bound = bindings.get(name);
+        Object[] values = null;
+        if (bound != null && !bound.isEmpty()) {
+            bound = new ArrayList<>(bound);
+            values = new Object[bound.size()];
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = bound.get(i).bind(config);
+                }
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Keeping previous " + name + ": " + e.getMessage());
+                return false;
+            }
+        }
+
+        FileConfiguration[] previous = new FileConfiguration[1];
+        ConfigEntry swapped = configurations.computeIfPresent(name, (key, current) -> {
+            previous[0] = current.configuration;
+            return new ConfigEntry(config, file);
+        });
+        if (swapped == null) {
+            return false;
+        }
+
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                bound.get(i).set(values[i]);
+            }
+        }
+
+        List<ConfigChangeListener> registered = listeners.get(name);
+        if (registered != null && !registered.isEmpty()) {
+            ConfigChange change = ConfigChange.between(name, previous[0], config);
+            if (!change.isEmpty()) {
+                notifyListeners(registered, change);
+            }
+        }
+        return true;
+    }
+
+    private void notifyListeners(List<ConfigChangeListener> registered, ConfigChange change) {
+        Runnable dispatch = () -> {
+            for (ConfigChangeListener listener : registered) {
+                try {
+                    listener.onChange(change);
+                } catch (RuntimeException e) {
+                    plugin.getLogger().log(Level.SEVERE, "Config change listener failed for " + change.getName(), e);
+                }
+            }
+        };
+
+        if (plugin.isEnabled() && !plugin.getServer().isPrimaryThread()) {
+            plugin.getServer().getScheduler().runTask(plugin, dispatch);
+        } else {
+            dispatch.run();
+        }
+    }
+
+    private void onFileChanged(Path path) {
+        Path root = plugin.getDataFolder().toPath().toAbsolutePath().normalize();
+        Path absolute = path.toAbsolutePath().normalize();
+        if (!absolute.startsWith(root)) {
+            return;
+        }
+
+        String name = root.relativize(absolute).toString().replace(File.separatorChar, '/');
+        ConfigEntry entry = configurations.get(name);
+        if (entry == null || !Files.isRegularFile(absolute)) {
+            return;
+        }
+
+        FileState state = fileStates.computeIfAbsent(name, key -> new FileState());
+        try {
+            long modified = Files.getLastModifiedTime(absolute).toMillis();
+            long size = Files.size(absolute);
+            if (state.modified == modified && state.size == size) {
+                return;
+            }
+
+            byte[] bytes = Files.readAllBytes(absolute);
+            int checksum = checksum(bytes);
+            if (state.size == bytes.length && state.checksum == checksum) {
+                state.modified = modified;
+                return;
+            }
+
+            FileConfiguration config = decode(entry.file, bytes);
+            state.record(modified, bytes.length, checksum);
+            if (swap(name, entry.file, config)) {
+                plugin.getLogger().info("Hot reloaded " + name);
+            }
+        } catch (IOException | InvalidConfigurationException e) {
+            plugin.getLogger().log(Level.WARNING, "Ignoring invalid edit to " + name, e);
+        }
+    }
+
+    private synchronized void watchDirectory(File file) {
+        if (watcher != null) {
+            watcher.register(file.toPath().toAbsolutePath().getParent());
+        }
+    }
+
+    private CompletableFuture<FileConfiguration> parseAsync(String name, File file) {
+        return CompletableFuture.supplyAsync(() -> parse(name, file), executor()).handle((config, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to reload config: " + name, unwrap(error));
+                return null;
+            }
+            return config;
+        });
+    }
+
+    private PendingSave scheduleSave(String name) {
+        while (true) {
+            PendingSave pending = pendingSaves.computeIfAbsent(name, PendingSave::new);
+            if (!pending.started.get()) {
+                pending.schedule();
+                return pending;
+            }
+            pendingSaves.remove(name, pending);
+        }
+    }
+
+    private FileConfiguration parse(String name, File file) {
+        try {
+            Path path = file.toPath();
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            byte[] bytes = Files.readAllBytes(path);
+            int checksum = checksum(bytes);
+            FileConfiguration config = decode(file, bytes);
+            fileStates.computeIfAbsent(name, key -> new FileState()).record(modified, bytes.length, checksum);
+            return config;
+        } catch (IOException | InvalidConfigurationException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private FileConfiguration decode(File file, byte[] bytes) throws InvalidConfigurationException {
+        if (!binaryCache) {
+            return parse(bytes);
+        }
+
+        Path cache = ConfigCache.pathFor(file.toPath());
+        byte[] digest = ConfigCache.digest(bytes);
+        try {
+            FileConfiguration cached = ConfigCache.read(cache, digest, bytes.length);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.FINE, "Unreadable config cache " + cache, e);
+        }
+
+        FileConfiguration config = parse(bytes);
+        try {
+            ConfigCache.write(cache, config, digest, bytes.length);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to write config cache " + cache, e);
+        }
+        return config;
+    }
+
+    private static FileConfiguration parse(byte[] bytes) throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(new String(bytes, StandardCharsets.UTF_8));
+        return config;
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    private void write(String name, File file, String contents, long sequence) throws IOException {
+        FileState state = fileStates.computeIfAbsent(name, key -> new FileState());
+        state.lock.lock();
+        try {
+            if (sequence < state.written) {
+                return;
+            }
+
+            Path target = file.toPath();
+            Path directory = target.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+
+            byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+            Path temp = target.resolveSibling(file.getName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            state.record(-1L, bytes.length, checksum(bytes));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            state.modified = Files.getLastModifiedTime(target).toMillis();
+            state.written = sequence;
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    private void prepareFile(String name, File file, boolean saveDefault) {
+        if (!file.exists()) {
+            if (saveDefault && hasResource(name)) {
+                saveResource(name, file);
+            } else {
+                createEmptyFile(file);
+            }
+        }
+    }
+
+    private synchronized Executor executor() {
+        if (closed) {
+            return Runnable::run;
+        }
+        if (executor == null) {
+            int threads = Math.max(1, Math.min(MAXIMUM_WORKERS, Runtime.getRuntime().availableProcessors()));
+            AtomicInteger counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, plugin.getName() + "-Config-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private String normalizeName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Config name cannot be null or empty");
@@ -159,4 +643,106 @@ public final class ConfigurationManager {
             this.file = file;
         }
     }
-}
\ No newline at end of file
+
+    private static final class FileState {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long written;
+        private volatile long modified = -1L;
+        private volatile long size = -1L;
+        private volatile int checksum;
+
+        void record(long modified, long size, int checksum) {
+            this.checksum = checksum;
+            this.size = size;
+            this.modified = modified;
+        }
+    }
+
+    private final class PendingSave implements Runnable {
+        private final String name;
+        private final CompletableFuture<Void> result;
+        private final AtomicBoolean scheduled;
+        private final AtomicBoolean started;
+        private volatile BukkitTask task;
+
+        PendingSave(String name) {
+            this.name = name;
+            this.result = new CompletableFuture<>();
+            this.scheduled = new AtomicBoolean();
+            this.started = new AtomicBoolean();
+        }
+
+        void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+
+            if (plugin.isEnabled()) {
+                task = plugin.getServer().getScheduler().runTaskLater(plugin, this, saveDelayTicks);
+            } else {
+                runNow();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            pendingSaves.remove(name, this);
+
+            ConfigEntry entry = configurations.get(name);
+            if (entry == null) {
+                result.complete(null);
+                return;
+            }
+
+            String contents = entry.configuration.saveToString();
+            long sequence = saveSequence.incrementAndGet();
+            CompletableFuture.runAsync(() -> {
+                try {
+                    write(name, entry.file, contents, sequence);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor()).whenComplete((ignored, error) -> complete(error));
+        }
+
+        boolean runNow() {
+            if (!started.compareAndSet(false, true)) {
+                return false;
+            }
+            pendingSaves.remove(name, this);
+
+            BukkitTask scheduledTask = task;
+            if (scheduledTask != null) {
+                scheduledTask.cancel();
+            }
+
+            ConfigEntry entry = configurations.get(name);
+            if (entry == null) {
+                result.complete(null);
+                return true;
+            }
+
+            try {
+                write(name, entry.file, entry.configuration.saveToString(), saveSequence.incrementAndGet());
+                complete(null);
+            } catch (IOException e) {
+                complete(e);
+            }
+            return true;
+        }
+
+        private void complete(Throwable error) {
+            if (error == null) {
+                result.complete(null);
+                return;
+            }
+
+            Throwable cause = unwrap(error);
+            plugin.getLogger().log(Level.SEVERE, "Failed to save config: " + name, cause);
+            result.completeExceptionally(cause);
+        }
+    }
+}
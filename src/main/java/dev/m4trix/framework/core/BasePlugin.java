@@ -4,7 +4,10 @@ import dev.m4trix.framework.command.CommandRegistry;
 import dev.m4trix.framework.config.ConfigurationManager;
 import dev.m4trix.framework.event.EventRegistry;
 import dev.m4trix.framework.service.ServiceManager;
+import dev.m4trix.framework.util.CoarseClock;
+import dev.m4trix.framework.util.FrameworkClock;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.logging.Level;
 
@@ -14,6 +17,8 @@ public abstract class BasePlugin extends JavaPlugin {
     private CommandRegistry commandRegistry;
     private EventRegistry eventRegistry;
     private ServiceManager serviceManager;
+    private CoarseClock clock;
+    private BukkitTask clockTask;
 
     private volatile boolean initialized = false;
 
@@ -28,6 +33,11 @@ public abstract class BasePlugin extends JavaPlugin {
             getLogger().info("Plugin initialized successfully");
         } catch (Throwable t) {
             getLogger().log(Level.SEVERE, "Failed to initialize plugin", t);
+            try {
+                shutdownFramework();
+            } catch (Throwable cleanup) {
+                getLogger().log(Level.SEVERE, "Error while rolling back initialization", cleanup);
+            }
             getServer().getPluginManager().disablePlugin(this);
         }
     }
@@ -51,8 +61,11 @@ public abstract class BasePlugin extends JavaPlugin {
     }
 
     private void initializeFramework() {
+        this.clock = FrameworkClock.coarse(FrameworkClock.monotonic());
+        this.clockTask = getServer().getScheduler().runTaskTimer(this, clock::update, 1L, 1L);
         this.configManager = new ConfigurationManager(this);
         this.commandRegistry = new CommandRegistry(this);
+        commandRegistry.setClock(clock);
         this.eventRegistry = new EventRegistry(this);
         this.serviceManager = new ServiceManager(this);
     }
@@ -60,7 +73,9 @@ public abstract class BasePlugin extends JavaPlugin {
     private void registerComponents() {
         registerCommands(commandRegistry);
         registerEvents(eventRegistry);
+        clock.update();
         registerServices(serviceManager);
+        serviceManager.startAll();
     }
 
     private void shutdownFramework() {
@@ -70,6 +85,16 @@ public abstract class BasePlugin extends JavaPlugin {
         if (eventRegistry != null) {
             eventRegistry.unregisterAll();
         }
+        if (commandRegistry != null) {
+            commandRegistry.shutdown();
+        }
+        if (configManager != null) {
+            configManager.shutdown();
+        }
+        if (clockTask != null) {
+            clockTask.cancel();
+            clockTask = null;
+        }
     }
 
     protected abstract void initialize();
@@ -104,6 +129,10 @@ public abstract class BasePlugin extends JavaPlugin {
         return serviceManager;
     }
 
+    public final FrameworkClock getClock() {
+        return clock;
+    }
+
     public final boolean isInitialized() {
         return initialized;
     }
@@ -11,7 +11,9 @@ import org.bukkit.event.player.PlayerQuitEvent;
 public final class ConnectionListener implements Listener {
 
     private static final long CACHE_TTL = 3600000L;
-    
+    private static final String LAST_JOIN = "last_join";
+    private static final String LAST_QUIT = "last_quit";
+
     private final Main plugin;
 
     public ConnectionListener(Main plugin) {
@@ -23,8 +25,7 @@ public final class ConnectionListener implements Listener {
         Player player = event.getPlayer();
         CacheService cache = plugin.getCacheService();
         
-        String key = "last_join:" + player.getUniqueId();
-        cache.put(key, System.currentTimeMillis(), CACHE_TTL);
+        cache.longRegion(LAST_JOIN).put(player.getUniqueId(), System.currentTimeMillis(), CACHE_TTL);
     }
 
     @EventHandler
@@ -32,7 +33,6 @@ public final class ConnectionListener implements Listener {
         Player player = event.getPlayer();
         CacheService cache = plugin.getCacheService();
         
-        String key = "last_quit:" + player.getUniqueId();
-        cache.put(key, System.currentTimeMillis(), CACHE_TTL);
+        cache.longRegion(LAST_QUIT).put(player.getUniqueId(), System.currentTimeMillis(), CACHE_TTL);
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package dev.m4trix.framework.permission;
+
+import org.bukkit.entity.Player;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class PermissionBits {
+
+    final int generation;
+    final long created;
+    private final AtomicLongArray known;
+    private final AtomicLongArray granted;
+
+    PermissionBits(int generation, long created, int words) {
+        this.generation = generation;
+        this.created = created;
+        this.known = new AtomicLongArray(words);
+        this.granted = new AtomicLongArray(words);
+    }
+
+    int capacity() {
+        return known.length() << 6;
+    }
+
+    boolean has(Player player, int bit, String[] names) {
+        int word = bit >>> 6;
+        long flag = 1L << bit;
+        if (word >= known.length()) {
+            return (evaluate(player, word, flag, names) & flag) != 0;
+        }
+        if ((known.get(word) & flag) == 0) {
+            resolve(player, word, flag, names);
+        }
+        return (granted.get(word) & flag) != 0;
+    }
+
+    boolean hasAny(Player player, long[] mask, String[] names) {
+        int words = Math.min(mask.length, known.length());
+        for (int word = 0; word < words; word++) {
+            if ((granted.get(word) & mask[word]) != 0) {
+                return true;
+            }
+        }
+
+        for (int word = 0; word < words; word++) {
+            long unknown = mask[word] & ~known.get(word);
+            if (unknown != 0 && (resolve(player, word, unknown, names) & mask[word]) != 0) {
+                return true;
+            }
+        }
+
+        for (int word = words; word < mask.length; word++) {
+            if (mask[word] != 0 && evaluate(player, word, mask[word], names) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean hasAll(Player player, long[] mask, String[] names) {
+        for (int word = 0; word < mask.length; word++) {
+            long need = mask[word];
+            if (need == 0) {
+                continue;
+            }
+
+            if (word >= known.length()) {
+                if (evaluate(player, word, need, names) != need) {
+                    return false;
+                }
+                continue;
+            }
+
+            long unknown = need & ~known.get(word);
+            long result = unknown != 0 ? resolve(player, word, unknown, names) : granted.get(word);
+            if ((result & need) != need) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long resolve(Player player, int word, long bits, String[] names) {
+        long allowed = evaluate(player, word, bits, names);
+        long result = granted.accumulateAndGet(word, allowed, (current, add) -> current | add);
+        known.accumulateAndGet(word, bits, (current, add) -> current | add);
+        return result;
+    }
+
+    private static long evaluate(Player player, int word, long bits, String[] names) {
+        long allowed = 0L;
+        long remaining = bits;
+        while (remaining != 0) {
+            int bit = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            int index = (word << 6) | bit;
+            String name = index < names.length ? names[index] : null;
+            if (name != null && player.hasPermission(name)) {
+                allowed |= 1L << bit;
+            }
+        }
+        return allowed;
+    }
+}
@@ -1,22 +1,70 @@
 package dev.m4trix.framework.permission;
 
+import dev.m4trix.framework.core.BasePlugin;
+import dev.m4trix.framework.util.FrameworkClock;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.permissions.Permission;
 import org.bukkit.permissions.PermissionDefault;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class PermissionManager {
 
+    private static final long DEFAULT_CACHE_TTL_MILLIS = 1000L;
+
     private final JavaPlugin plugin;
     private final Map<String, Permission> registeredPermissions;
+    private final Map<String, Integer> bits;
+    private final PermissionTree tree;
+    private final Map<String, Permission> wildcards;
+    private final Map<UUID, PermissionBits> cache;
+    private final AtomicInteger generation;
+    private final FrameworkClock clock;
+    private volatile long cacheTtlMillis;
+    private volatile String[] names;
+    private volatile int layout;
+    private int[] freeBits;
+    private int freeCount;
+    private volatile int nextBit;
 
     public PermissionManager(JavaPlugin plugin) {
+        this(plugin, clockOf(plugin));
+    }
+
+    public PermissionManager(JavaPlugin plugin, FrameworkClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
         this.plugin = plugin;
         this.registeredPermissions = new HashMap<>();
+        this.bits = new ConcurrentHashMap<>();
+        this.tree = new PermissionTree();
+        this.wildcards = new HashMap<>();
+        this.cache = new ConcurrentHashMap<>();
+        this.generation = new AtomicInteger();
+        this.clock = clock;
+        this.cacheTtlMillis = DEFAULT_CACHE_TTL_MILLIS;
+        this.names = new String[64];
+        this.freeBits = new int[16];
+        plugin.getServer().getPluginManager().registerEvents(new InvalidationListener(), plugin);
     }
 
     public void register(String permission, PermissionDefault defaultValue) {
@@ -31,6 +79,8 @@ public final class PermissionManager {
         Permission perm = new Permission(permission, defaultValue);
         plugin.getServer().getPluginManager().addPermission(perm);
         registeredPermissions.put(permission, perm);
+        assignBit(permission);
+        refreshWildcards(permission);
     }
 
     public void register(String permission, PermissionDefault defaultValue, String description) {
@@ -45,12 +95,39 @@ public final class PermissionManager {
         Permission perm = new Permission(permission, description, defaultValue);
         plugin.getServer().getPluginManager().addPermission(perm);
         registeredPermissions.put(permission, perm);
+        assignBit(permission);
+        refreshWildcards(permission);
+    }
+
+    public void registerTree(PermissionDefault defaultValue, String... permissions) {
+        if (permissions == null) {
+            return;
+        }
+
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (String permission : permissions) {
+            if (permission == null || permission.isEmpty() || registeredPermissions.containsKey(permission)) {
+                continue;
+            }
+
+            Permission perm = new Permission(permission, defaultValue);
+            plugin.getServer().getPluginManager().addPermission(perm);
+            registeredPermissions.put(permission, perm);
+            assignBit(permission);
+            prefixes.addAll(tree.ancestors(permission));
+        }
+
+        for (String prefix : prefixes) {
+            updateWildcard(prefix, defaultValue);
+        }
     }
 
     public void unregister(String permission) {
         Permission perm = registeredPermissions.remove(permission);
         if (perm != null) {
             plugin.getServer().getPluginManager().removePermission(perm);
+            releaseBit(permission);
+            refreshWildcards(permission);
         }
     }
 
@@ -59,14 +136,61 @@ public final class PermissionManager {
             plugin.getServer().getPluginManager().removePermission(perm);
         }
         registeredPermissions.clear();
+
+        for (Permission wildcard : wildcards.values()) {
+            plugin.getServer().getPluginManager().removePermission(wildcard);
+        }
+        wildcards.clear();
+
+        synchronized (bits) {
+            bits.clear();
+            tree.clear();
+            names = new String[64];
+            freeCount = 0;
+            nextBit = 0;
+            layout++;
+        }
+        invalidateAll();
+    }
+
+    public PermissionMask mask(String... permissions) {
+        if (permissions == null) {
+            throw new IllegalArgumentException("Permissions cannot be null");
+        }
+
+        synchronized (bits) {
+            long[] words = new long[Math.max(1, (nextBit + 63) >>> 6)];
+            for (String permission : permissions) {
+                Integer bit = permission != null ? bits.get(permission) : null;
+                if (bit == null) {
+                    throw new IllegalArgumentException("Permission is not registered: " + permission);
+                }
+                words[bit >>> 6] |= 1L << bit;
+            }
+            return new PermissionMask(words, layout, permissions.clone());
+        }
     }
 
     public boolean has(CommandSender sender, String permission) {
-        return sender != null && permission != null && sender.hasPermission(permission);
+        if (sender == null || permission == null) {
+            return false;
+        }
+        if (!(sender instanceof Player)) {
+            return sender.hasPermission(permission);
+        }
+        return has((Player) sender, permission);
     }
 
     public boolean has(Player player, String permission) {
-        return player != null && permission != null && player.hasPermission(permission);
+        if (player == null || permission == null) {
+            return false;
+        }
+
+        Integer bit = bits.get(permission);
+        if (bit == null) {
+            return player.hasPermission(permission);
+        }
+        return bitsFor(player).has(player, bit, names);
     }
 
     public boolean hasAny(CommandSender sender, String... permissions) {
@@ -75,7 +199,7 @@ public final class PermissionManager {
         }
 
         for (String permission : permissions) {
-            if (sender.hasPermission(permission)) {
+            if (has(sender, permission)) {
                 return true;
             }
         }
@@ -89,11 +213,213 @@ public final class PermissionManager {
         }
 
         for (String permission : permissions) {
-            if (!sender.hasPermission(permission)) {
+            if (!has(sender, permission)) {
                 return false;
             }
         }
 
         return true;
     }
-}
\ No newline at end of file
+
+    public boolean hasAny(CommandSender sender, PermissionMask mask) {
+        if (sender == null || mask == null) {
+            return false;
+        }
+        if (!(sender instanceof Player) || mask.layout() != layout) {
+            return hasAny(sender, mask.permissions());
+        }
+
+        Player player = (Player) sender;
+        return bitsFor(player).hasAny(player, mask.words(), names);
+    }
+
+    public boolean hasAll(CommandSender sender, PermissionMask mask) {
+        if (sender == null || mask == null) {
+            return false;
+        }
+        if (!(sender instanceof Player) || mask.layout() != layout) {
+            return hasAll(sender, mask.permissions());
+        }
+
+        Player player = (Player) sender;
+        return bitsFor(player).hasAll(player, mask.words(), names);
+    }
+
+    public boolean hasAnyUnder(CommandSender sender, String prefix) {
+        if (sender == null || prefix == null) {
+            return false;
+        }
+
+        String node = normalize(prefix);
+        if (!(sender instanceof Player)) {
+            if (registeredPermissions.containsKey(node) && sender.hasPermission(node)) {
+                return true;
+            }
+            for (String child : tree.children(node)) {
+                if (sender.hasPermission(child)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long[] mask = tree.mask(node);
+        if (mask.length == 0) {
+            return false;
+        }
+
+        Player player = (Player) sender;
+        return bitsFor(player).hasAny(player, mask, names);
+    }
+
+    public Set<String> getChildren(String prefix) {
+        return prefix != null ? tree.children(normalize(prefix)) : Collections.emptySet();
+    }
+
+    public void setCacheTtl(Duration ttl) {
+        if (ttl == null || ttl.toMillis() <= 0) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.cacheTtlMillis = ttl.toMillis();
+    }
+
+    public void invalidate(Player player) {
+        if (player != null) {
+            cache.remove(player.getUniqueId());
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private PermissionBits bitsFor(Player player) {
+        UUID id = player.getUniqueId();
+        int current = generation.get();
+        int required = nextBit;
+        long now = clock.millis();
+
+        PermissionBits cached = cache.get(id);
+        if (cached != null && cached.generation == current && cached.capacity() >= required
+                && now - cached.created <= cacheTtlMillis) {
+            return cached;
+        }
+
+        PermissionBits fresh = new PermissionBits(current, now, Math.max(1, (required + 63) >>> 6));
+        cache.put(id, fresh);
+        return fresh;
+    }
+
+    private static FrameworkClock clockOf(JavaPlugin plugin) {
+        FrameworkClock clock = plugin instanceof BasePlugin ? ((BasePlugin) plugin).getClock() : null;
+        return clock != null ? clock : FrameworkClock.monotonic();
+    }
+
+    private void assignBit(String permission) {
+        synchronized (bits) {
+            int bit = freeCount > 0 ? freeBits[--freeCount] : nextBit;
+            String[] updated = bit < names.length ? names.clone() : Arrays.copyOf(names, names.length * 2);
+            updated[bit] = permission;
+            names = updated;
+            if (bit == nextBit) {
+                nextBit = bit + 1;
+            }
+            bits.put(permission, bit);
+            tree.insert(permission, bit);
+        }
+    }
+
+    private void releaseBit(String permission) {
+        synchronized (bits) {
+            Integer bit = bits.remove(permission);
+            if (bit == null) {
+                return;
+            }
+            tree.remove(permission, bit);
+
+            String[] updated = names.clone();
+            updated[bit] = null;
+            names = updated;
+            if (freeCount == freeBits.length) {
+                freeBits = Arrays.copyOf(freeBits, freeCount * 2);
+            }
+            freeBits[freeCount++] = bit;
+            layout++;
+        }
+        invalidateAll();
+    }
+
+    private void refreshWildcards(String permission) {
+        for (String prefix : tree.ancestors(permission)) {
+            Permission wildcard = wildcards.get(prefix);
+            if (wildcard != null) {
+                updateWildcard(prefix, wildcard.getDefault());
+            }
+        }
+    }
+
+    private void updateWildcard(String prefix, PermissionDefault defaultValue) {
+        Set<String> children = tree.children(prefix);
+        Permission wildcard = wildcards.get(prefix);
+
+        if (children.isEmpty()) {
+            if (wildcard != null) {
+                plugin.getServer().getPluginManager().removePermission(wildcard);
+                wildcards.remove(prefix);
+            }
+            return;
+        }
+
+        if (wildcard == null) {
+            String name = prefix + ".*";
+            if (plugin.getServer().getPluginManager().getPermission(name) != null) {
+                return;
+            }
+
+            Map<String, Boolean> values = new LinkedHashMap<>();
+            for (String child : children) {
+                values.put(child, true);
+            }
+            wildcard = new Permission(name, defaultValue, values);
+            plugin.getServer().getPluginManager().addPermission(wildcard);
+            wildcards.put(prefix, wildcard);
+            return;
+        }
+
+        Map<String, Boolean> values = wildcard.getChildren();
+        values.clear();
+        for (String child : children) {
+            values.put(child, true);
+        }
+        wildcard.recalculatePermissibles();
+    }
+
+    private static String normalize(String prefix) {
+        if (prefix.endsWith(".*")) {
+            return prefix.substring(0, prefix.length() - 2);
+        }
+        if (prefix.endsWith(".")) {
+            return prefix.substring(0, prefix.length() - 1);
+        }
+        return prefix;
+    }
+
+    private final class InvalidationListener implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onQuit(PlayerQuitEvent event) {
+            invalidate(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onWorldChange(PlayerChangedWorldEvent event) {
+            invalidate(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onCommandSend(PlayerCommandSendEvent event) {
+            invalidate(event.getPlayer());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.m4trix.framework.permission;
+
+import java.util.Arrays;
+
+public final class PermissionMask {
+
+    private final long[] words;
+    private final int layout;
+    private final String[] permissions;
+
+    PermissionMask(long[] words, int layout, String[] permissions) {
+        this.words = words;
+        this.layout = layout;
+        this.permissions = permissions;
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    int layout() {
+        return layout;
+    }
+
+    String[] permissions() {
+        return permissions;
+    }
+
+    public int size() {
+        return permissions.length;
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionMask" + Arrays.toString(permissions);
+    }
+}
@@ -0,0 +1,172 @@
+package dev.m4trix.framework.permission;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class PermissionTree {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Node root;
+
+    PermissionTree() {
+        this.root = new Node(null, "");
+    }
+
+    void insert(String permission, int bit) {
+        Node node = root;
+        node.add(bit);
+        int start = 0;
+        while (start <= permission.length()) {
+            int end = permission.indexOf('.', start);
+            if (end < 0) {
+                end = permission.length();
+            }
+            node = node.childOrCreate(permission.substring(start, end), permission, end);
+            node.add(bit);
+            start = end + 1;
+        }
+        node.registered = true;
+    }
+
+    void remove(String permission, int bit) {
+        Node node = find(permission, permission.length());
+        if (node == null || !node.registered) {
+            return;
+        }
+
+        node.registered = false;
+        for (Node current = node; current != null; current = current.parent) {
+            current.clear(bit);
+            if (current.parent != null && current.members == 0) {
+                current.parent.children.remove(current.segment);
+            }
+        }
+    }
+
+    long[] mask(String prefix) {
+        Node node = find(prefix, prefix.length());
+        return node != null ? node.mask : EMPTY;
+    }
+
+    Set<String> children(String prefix) {
+        Node node = find(prefix, prefix.length());
+        return node != null ? node.descendants() : Collections.emptySet();
+    }
+
+    List<String> ancestors(String permission) {
+        List<String> prefixes = new ArrayList<>();
+        int end = permission.indexOf('.');
+        while (end >= 0) {
+            prefixes.add(permission.substring(0, end));
+            end = permission.indexOf('.', end + 1);
+        }
+        return prefixes;
+    }
+
+    void clear() {
+        root.children.clear();
+        root.mask = EMPTY;
+        root.members = 0;
+        root.invalidate();
+    }
+
+    private Node find(String prefix, int length) {
+        if (length == 0) {
+            return root;
+        }
+
+        Node node = root;
+        int start = 0;
+        while (node != null && start <= length) {
+            int end = prefix.indexOf('.', start);
+            if (end < 0 || end > length) {
+                end = length;
+            }
+            node = node.children.get(prefix.substring(start, end));
+            start = end + 1;
+        }
+        return node;
+    }
+
+    private static final class Node {
+        private final Node parent;
+        private final String segment;
+        private final Map<String, Node> children;
+        private volatile String name;
+        private volatile boolean registered;
+        private volatile long[] mask;
+        private int members;
+        private volatile Set<String> descendants;
+
+        Node(Node parent, String segment) {
+            this.parent = parent;
+            this.segment = segment;
+            this.children = new ConcurrentHashMap<>();
+            this.mask = EMPTY;
+        }
+
+        Node childOrCreate(String segment, String permission, int end) {
+            Node child = children.get(segment);
+            if (child == null) {
+                child = new Node(this, segment);
+                child.name = permission.substring(0, end);
+                children.put(segment, child);
+            }
+            return child;
+        }
+
+        void add(int bit) {
+            int word = bit >>> 6;
+            long[] updated = word < mask.length ? mask.clone() : Arrays.copyOf(mask, word + 1);
+            if ((updated[word] & (1L << bit)) == 0) {
+                members++;
+            }
+            updated[word] |= 1L << bit;
+            mask = updated;
+            descendants = null;
+        }
+
+        void clear(int bit) {
+            int word = bit >>> 6;
+            if (word >= mask.length || (mask[word] & (1L << bit)) == 0) {
+                return;
+            }
+            long[] updated = mask.clone();
+            updated[word] &= ~(1L << bit);
+            mask = updated;
+            members--;
+            descendants = null;
+        }
+
+        void invalidate() {
+            descendants = null;
+        }
+
+        Set<String> descendants() {
+            Set<String> cached = descendants;
+            if (cached == null) {
+                Set<String> collected = new LinkedHashSet<>();
+                collect(this, collected);
+                cached = Collections.unmodifiableSet(collected);
+                descendants = cached;
+            }
+            return cached;
+        }
+
+        private static void collect(Node node, Set<String> out) {
+            for (Node child : node.children.values()) {
+                if (child.registered) {
+                    out.add(child.name);
+                }
+                collect(child, out);
+            }
+        }
+    }
+}
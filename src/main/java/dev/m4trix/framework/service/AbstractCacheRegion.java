@@ -0,0 +1,41 @@
+package dev.m4trix.framework.service;
+
+abstract class AbstractCacheRegion<K, V> implements CacheRegion<K, V> {
+
+    static final int SWEEP_BUDGET = 1024;
+
+    private final String name;
+    private final Class<K> keyType;
+    private final Class<V> valueType;
+    final CacheService service;
+
+    AbstractCacheRegion(String name, Class<K> keyType, Class<V> valueType, CacheService service) {
+        this.name = name;
+        this.keyType = keyType;
+        this.valueType = valueType;
+        this.service = service;
+    }
+
+    @Override
+    public final String getName() {
+        return name;
+    }
+
+    @Override
+    public final Class<K> getKeyType() {
+        return keyType;
+    }
+
+    @Override
+    public final Class<V> getValueType() {
+        return valueType;
+    }
+
+    abstract int cleanUp(long now);
+
+    static void checkKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cache key cannot be null");
+        }
+    }
+}
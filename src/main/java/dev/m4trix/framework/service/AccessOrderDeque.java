@@ -0,0 +1,80 @@
+package dev.m4trix.framework.service;
+
+final class AccessOrderDeque {
+
+    private CacheEntry first;
+    private CacheEntry last;
+
+    boolean isEmpty() {
+        return first == null;
+    }
+
+    CacheEntry peekFirst() {
+        return first;
+    }
+
+    CacheEntry peekLast() {
+        return last;
+    }
+
+    void addLast(CacheEntry entry) {
+        entry.prev = last;
+        entry.next = null;
+
+        if (last == null) {
+            first = entry;
+        } else {
+            last.next = entry;
+        }
+        last = entry;
+    }
+
+    void remove(CacheEntry entry) {
+        CacheEntry prev = entry.prev;
+        CacheEntry next = entry.next;
+
+        if (prev == null) {
+            first = next;
+        } else {
+            prev.next = next;
+        }
+
+        if (next == null) {
+            last = prev;
+        } else {
+            next.prev = prev;
+        }
+
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    void moveToBack(CacheEntry entry) {
+        if (entry != last) {
+            remove(entry);
+            addLast(entry);
+        }
+    }
+
+    CacheEntry pollFirst() {
+        CacheEntry entry = first;
+        if (entry != null) {
+            remove(entry);
+        }
+        return entry;
+    }
+
+    void clear() {
+        CacheEntry entry = first;
+        while (entry != null) {
+            CacheEntry next = entry.next;
+            entry.prev = null;
+            entry.next = null;
+            entry.queue = 0;
+            entry.bucket = null;
+            entry = next;
+        }
+        first = null;
+        last = null;
+    }
+}
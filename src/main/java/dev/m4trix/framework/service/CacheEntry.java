@@ -0,0 +1,47 @@
+package dev.m4trix.framework.service;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+final class CacheEntry {
+
+    private static final AtomicReferenceFieldUpdater<CacheEntry, Object> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(CacheEntry.class, Object.class, "value");
+
+    final String key;
+    final long expireTime;
+    final int weight;
+    volatile Object value;
+
+    CacheEntry prev;
+    CacheEntry next;
+    int queue;
+    LfuEvictor.FrequencyBucket bucket;
+
+    CacheEntry wheelPrev;
+    CacheEntry wheelNext;
+
+    int accesses;
+    int serializedSize = -1;
+
+    CacheEntry(String key, Object value, long expireTime, int weight) {
+        this.key = key;
+        this.value = value;
+        this.expireTime = expireTime;
+        this.weight = weight;
+    }
+
+    boolean casValue(Object expected, Object value) {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+
+    boolean isExpired(long now) {
+        return expireTime > 0 && now > expireTime;
+    }
+
+    static CacheEntry sentinel() {
+        CacheEntry sentinel = new CacheEntry(null, null, 0, 0);
+        sentinel.wheelPrev = sentinel;
+        sentinel.wheelNext = sentinel;
+        return sentinel;
+    }
+}
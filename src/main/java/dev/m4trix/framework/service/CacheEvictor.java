@@ -0,0 +1,27 @@
+package dev.m4trix.framework.service;
+
+interface CacheEvictor {
+
+    void onInsert(CacheEntry entry);
+
+    void onAccess(CacheEntry entry);
+
+    void onRemove(CacheEntry entry);
+
+    CacheEntry selectVictim();
+
+    void clear();
+
+    static CacheEvictor create(EvictionPolicy policy, long maximum, long expectedEntries) {
+        switch (policy) {
+            case LRU:
+                return new LruEvictor();
+            case LFU:
+                return new LfuEvictor();
+            case W_TINY_LFU:
+                return new TinyLfuEvictor(maximum, expectedEntries);
+            default:
+                throw new IllegalArgumentException("Unknown eviction policy: " + policy);
+        }
+    }
+}
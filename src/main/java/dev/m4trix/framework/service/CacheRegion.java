@@ -0,0 +1,26 @@
+package dev.m4trix.framework.service;
+
+import java.util.Optional;
+
+public interface CacheRegion<K, V> {
+
+    String getName();
+
+    Class<K> getKeyType();
+
+    Class<V> getValueType();
+
+    void put(K key, V value, long ttl);
+
+    void put(K key, V value);
+
+    Optional<V> get(K key);
+
+    boolean contains(K key);
+
+    void invalidate(K key);
+
+    void clear();
+
+    int size();
+}
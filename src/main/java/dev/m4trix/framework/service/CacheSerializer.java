@@ -0,0 +1,14 @@
+package dev.m4trix.framework.service;
+
+import java.nio.ByteBuffer;
+
+public interface CacheSerializer<T> {
+
+    byte[] serialize(T value);
+
+    T deserialize(ByteBuffer buffer);
+
+    default int estimateSize(T value) {
+        return -1;
+    }
+}
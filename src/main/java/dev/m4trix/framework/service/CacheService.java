@@ -1,30 +1,141 @@
 package dev.m4trix.framework.service;
 
+import dev.m4trix.framework.util.FrameworkClock;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class CacheService implements Service {
 
-    private final Map<String, CacheEntry<?>> cache;
+    private static final int MAXIMUM_WEIGHTED_SKETCH = 1 << 16;
+    private static final long NO_TTL = -1L;
+
+    private final Map<String, CacheEntry> cache;
+    private final Map<String, CompletableFuture<Object>> loading;
+    private final Map<String, AbstractCacheRegion<?, ?>> regions;
+    private final List<Consumer<CacheStats>> statsExporters;
+    private final StatsCounter stats;
+    private final ReentrantLock evictionLock;
+    private final CacheEvictor evictor;
+    private final TimerWheel timerWheel;
+    private final OffHeapTier offHeap;
+    private final Map<Class<?>, CacheSerializer<?>> serializers;
+    private final Path snapshotFile;
+    private final Consumer<CacheEntry> expirer;
+    private final Weigher weigher;
+    private final long maximumWeight;
+    private final long maintenanceInterval;
+    private final long refreshAhead;
+    private final Executor executor;
+    private final long statsExportInterval;
+    private final Logger logger;
+    private final FrameworkClock clock;
+    private long totalWeight;
     private volatile boolean running;
+    private volatile CacheSnapshot snapshot;
+    private ScheduledExecutorService maintenance;
 
     public CacheService() {
+        this(builder());
+    }
+
+    private CacheService(Builder builder) {
         this.cache = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
+        this.regions = new ConcurrentHashMap<>();
+        this.statsExporters = new CopyOnWriteArrayList<>();
+        this.stats = new StatsCounter(builder.recordStats);
+        this.evictionLock = new ReentrantLock();
+        this.weigher = builder.weigher;
+        this.maintenanceInterval = builder.maintenanceInterval;
+        this.refreshAhead = builder.refreshAhead;
+        this.executor = builder.executor;
+        this.statsExportInterval = builder.statsExportInterval;
+        this.logger = builder.logger;
+        this.clock = builder.clock;
+        this.timerWheel = new TimerWheel(clock.millis());
+        this.expirer = this::expire;
         this.running = false;
+        this.serializers = new HashMap<>(builder.serializers);
+        this.snapshotFile = builder.snapshotFile;
+        this.offHeap = builder.offHeapCapacity > 0
+                ? new OffHeapTier(builder.offHeapCapacity, builder.offHeapThreshold, builder.promoteThreshold,
+                        serializers)
+                : null;
+
+        if (builder.maximumSize >= 0) {
+            this.maximumWeight = builder.maximumSize;
+            this.evictor = CacheEvictor.create(builder.policy, maximumWeight, maximumWeight);
+        } else if (builder.maximumWeight >= 0) {
+            this.maximumWeight = builder.maximumWeight;
+            this.evictor = CacheEvictor.create(builder.policy, maximumWeight,
+                    Math.min(maximumWeight, MAXIMUM_WEIGHTED_SKETCH));
+        } else {
+            this.maximumWeight = -1;
+            this.evictor = null;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
     @Override
-    public void start() {
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, getName() + "-Maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleAtFixedRate(this::runMaintenance, maintenanceInterval, maintenanceInterval,
+                TimeUnit.MILLISECONDS);
+        maintenance.scheduleAtFixedRate(this::exportStats, statsExportInterval, statsExportInterval,
+                TimeUnit.MILLISECONDS);
         this.running = true;
+
+        if (snapshotFile != null) {
+            loadSnapshot();
+        }
     }
 
     @Override
-    public void stop() {
+    public synchronized void stop() {
         this.running = false;
-        cache.clear();
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+            maintenance = null;
+        }
+        if (snapshotFile != null) {
+            saveSnapshot();
+        }
+        clear();
     }
 
     @Override
@@ -32,18 +143,23 @@ public class CacheService implements Service {
         return running;
     }
 
+    @Override
+    public boolean requiresMainThread() {
+        return false;
+    }
+
     public <T> void put(String key, T value, long ttl) {
         if (key == null) {
             throw new IllegalArgumentException("Cache key cannot be null");
         }
-        cache.put(key, new CacheEntry<>(value, System.currentTimeMillis() + ttl));
+        write(key, value, currentTime() + ttl);
     }
 
     public <T> void put(String key, T value) {
         if (key == null) {
             throw new IllegalArgumentException("Cache key cannot be null");
         }
-        cache.put(key, new CacheEntry<>(value, -1));
+        write(key, value, -1);
     }
 
     @SuppressWarnings("unchecked")
@@ -52,87 +168,726 @@ public class CacheService implements Service {
             return Optional.empty();
         }
 
-        CacheEntry<?> entry = cache.get(key);
-        
-        if (entry == null) {
-            return Optional.empty();
-        }
-
-        if (entry.isExpired()) {
-            cache.remove(key);
+        CacheEntry entry = getLive(key);
+        Object value = entry != null ? valueOf(entry) : null;
+        if (value == null) {
+            stats.recordMiss();
             return Optional.empty();
         }
 
-        return Optional.of((T) entry.value);
+        stats.recordHit();
+        return Optional.of((T) value);
     }
 
     public <T> T getOrCompute(String key, Supplier<T> supplier) {
+        return getOrCompute(key, NO_TTL, supplier);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCompute(String key, long ttl, Supplier<T> supplier) {
         if (key == null || supplier == null) {
             throw new IllegalArgumentException("Key and supplier cannot be null");
         }
 
-        return this.<T>get(key).orElseGet(() -> {
-            T value = supplier.get();
-            if (value != null) {
-                put(key, value);
+        CacheEntry entry = getLive(key);
+        Object cached = entry != null ? valueOf(entry) : null;
+        if (cached != null) {
+            stats.recordHit();
+            if (shouldRefresh(entry)) {
+                refresh(entry, ttl, k -> CompletableFuture.supplyAsync(supplier, executor));
             }
-            return value;
-        });
+            return (T) cached;
+        }
+
+        stats.recordMiss();
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, created);
+        if (inFlight != null) {
+            return (T) await(inFlight);
+        }
+
+        long start = System.nanoTime();
+        try {
+            entry = getLive(key);
+            Object value = entry != null ? valueOf(entry) : null;
+            if (value == null) {
+                value = supplier.get();
+                recordLoad(value, start);
+                complete(key, created, value, ttl);
+            }
+            created.complete(value);
+            return (T) value;
+        } catch (Throwable t) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+
+    public <T> CompletableFuture<T> getOrComputeAsync(String key, Function<String, CompletableFuture<T>> loader) {
+        return getOrComputeAsync(key, NO_TTL, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getOrComputeAsync(String key, long ttl,
+                                                      Function<String, CompletableFuture<T>> loader) {
+        if (key == null || loader == null) {
+            throw new IllegalArgumentException("Key and loader cannot be null");
+        }
+
+        CacheEntry entry = getLive(key);
+        Object cached = entry != null ? valueOf(entry) : null;
+        if (cached != null) {
+            stats.recordHit();
+            if (shouldRefresh(entry)) {
+                refresh(entry, ttl, loader);
+            }
+            return CompletableFuture.completedFuture((T) cached);
+        }
+
+        stats.recordMiss();
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, created);
+        if (inFlight != null) {
+            return (CompletableFuture<T>) (CompletableFuture<?>) inFlight;
+        }
+
+        entry = getLive(key);
+        cached = entry != null ? valueOf(entry) : null;
+        if (cached != null) {
+            loading.remove(key, created);
+            created.complete(cached);
+        } else {
+            startLoad(key, created, ttl, loader);
+        }
+        return (CompletableFuture<T>) (CompletableFuture<?>) created;
     }
 
     public boolean contains(String key) {
         if (key == null) {
             return false;
         }
-        
-        CacheEntry<?> entry = cache.get(key);
+
+        CacheEntry entry = cache.get(key);
         if (entry == null) {
-            return false;
+            return restore(key) != null;
         }
-        
-        if (entry.isExpired()) {
-            cache.remove(key);
+
+        if (entry.isExpired(currentTime())) {
+            if (remove(entry)) {
+                stats.recordExpiration(1);
+            }
             return false;
         }
-        
+
         return true;
     }
 
     public void invalidate(String key) {
-        if (key != null) {
-            cache.remove(key);
+        if (key == null) {
+            return;
+        }
+
+        CacheSnapshot pending = snapshot;
+        if (pending != null) {
+            pending.discard(key);
+        }
+
+        evictionLock.lock();
+        try {
+            loading.remove(key);
+            CacheEntry removed = cache.remove(key);
+            if (removed != null) {
+                unlink(removed);
+            }
+        } finally {
+            evictionLock.unlock();
         }
     }
 
     public void clear() {
-        cache.clear();
+        this.snapshot = null;
+        for (AbstractCacheRegion<?, ?> region : regions.values()) {
+            region.clear();
+        }
+
+        evictionLock.lock();
+        try {
+            cache.clear();
+            loading.clear();
+            timerWheel.clear();
+            if (evictor != null) {
+                evictor.clear();
+            }
+            if (offHeap != null) {
+                offHeap.clear();
+            }
+            totalWeight = 0;
+        } finally {
+            evictionLock.unlock();
+        }
     }
 
     public int size() {
-        cleanExpired();
-        return cache.size();
+        int size = cache.size();
+        for (AbstractCacheRegion<?, ?> region : regions.values()) {
+            size += region.size();
+        }
+        return size;
     }
 
     public Set<String> keys() {
-        cleanExpired();
-        return cache.keySet();
+        return Collections.unmodifiableSet(cache.keySet());
     }
 
-    private void cleanExpired() {
-        cache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+    public void cleanUp() {
+        long time = clock.millis();
+
+        evictionLock.lock();
+        try {
+            timerWheel.advance(time, expirer);
+        } finally {
+            evictionLock.unlock();
+        }
+
+        for (AbstractCacheRegion<?, ?> region : regions.values()) {
+            stats.recordExpiration(region.cleanUp(time));
+        }
+
+        if (offHeap != null) {
+            offHeap.sweep(cache);
+        }
+    }
+
+    public long getOffHeapBytes() {
+        return offHeap != null ? offHeap.getUsedBytes() : 0L;
+    }
+
+    public int getOffHeapCount() {
+        return offHeap != null ? offHeap.getCount() : 0;
+    }
+
+    public CacheStats stats() {
+        return stats.snapshot();
+    }
+
+    public boolean isRecordingStats() {
+        return stats.isEnabled();
+    }
+
+    public void addStatsExporter(Consumer<CacheStats> exporter) {
+        if (exporter == null) {
+            throw new IllegalArgumentException("Stats exporter cannot be null");
+        }
+        statsExporters.add(exporter);
+    }
+
+    public boolean removeStatsExporter(Consumer<CacheStats> exporter) {
+        return statsExporters.remove(exporter);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> CacheRegion<K, V> region(String name, Class<K> keyType, Class<V> valueType) {
+        if (name == null || keyType == null || valueType == null) {
+            throw new IllegalArgumentException("Region name and types cannot be null");
+        }
+
+        AbstractCacheRegion<?, ?> region = regions.get(name);
+        if (region == null) {
+            region = regions.computeIfAbsent(name, n -> keyType == UUID.class && valueType == Long.class
+                    ? new LongCacheRegion(n, this)
+                    : new ObjectCacheRegion<>(n, keyType, valueType, this));
+        }
+
+        if (region.getKeyType() != keyType || region.getValueType() != valueType) {
+            throw new IllegalArgumentException("Cache region " + name + " already exists with types "
+                    + region.getKeyType().getSimpleName() + " -> " + region.getValueType().getSimpleName());
+        }
+        return (CacheRegion<K, V>) region;
+    }
+
+    public LongCacheRegion longRegion(String name) {
+        return (LongCacheRegion) region(name, UUID.class, Long.class);
+    }
+
+    public boolean isBounded() {
+        return evictor != null;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
     }
 
-    private static final class CacheEntry<T> {
-        private final T value;
-        private final long expireTime;
+    public long getTotalWeight() {
+        if (evictor == null) {
+            return cache.size();
+        }
+
+        evictionLock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private CacheEntry getLive(String key) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            return restore(key);
+        }
+
+        if (entry.isExpired(currentTime())) {
+            if (remove(entry)) {
+                stats.recordExpiration(1);
+            }
+            return null;
+        }
+
+        recordAccess(entry);
+        return entry;
+    }
+
+    private boolean shouldRefresh(CacheEntry entry) {
+        return refreshAhead > 0
+                && entry.expireTime > 0
+                && entry.expireTime - currentTime() <= refreshAhead
+                && !loading.containsKey(entry.key);
+    }
+
+    private <T> void refresh(CacheEntry entry, long ttl, Function<String, CompletableFuture<T>> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        if (loading.putIfAbsent(entry.key, created) == null) {
+            startLoad(entry.key, created, ttl, loader);
+        }
+    }
+
+    private <T> void startLoad(String key, CompletableFuture<Object> created, long ttl,
+                               Function<String, CompletableFuture<T>> loader) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = loader.apply(key);
+        } catch (Throwable t) {
+            stats.recordLoadFailure(System.nanoTime() - start);
+            loading.remove(key, created);
+            created.completeExceptionally(t);
+            return;
+        }
+
+        if (future == null) {
+            recordLoad(null, start);
+            complete(key, created, null, ttl);
+            created.complete(null);
+            return;
+        }
+
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                stats.recordLoadFailure(System.nanoTime() - start);
+                loading.remove(key, created);
+                created.completeExceptionally(error);
+            } else {
+                recordLoad(value, start);
+                complete(key, created, value, ttl);
+                created.complete(value);
+            }
+        });
+    }
+
+    private void complete(String key, CompletableFuture<Object> created, Object value, long ttl) {
+        evictionLock.lock();
+        try {
+            if (loading.get(key) == created) {
+                if (value != null) {
+                    write(key, value, ttl == NO_TTL ? -1 : currentTime() + ttl);
+                }
+                loading.remove(key, created);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void recordLoad(Object value, long start) {
+        long loadTime = System.nanoTime() - start;
+        if (value != null) {
+            stats.recordLoadSuccess(loadTime);
+        } else {
+            stats.recordLoadFailure(loadTime);
+        }
+    }
 
-        CacheEntry(T value, long expireTime) {
-            this.value = value;
-            this.expireTime = expireTime;
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private void write(String key, Object value, long expireTime) {
+        int weight = weigh(key, value);
+        CacheEntry entry = new CacheEntry(key, value, expireTime, weight);
+        if (offHeap != null) {
+            offHeap.admit(entry);
+        }
+
+        CacheSnapshot pending = snapshot;
+        if (pending != null) {
+            pending.discard(key);
+        }
+
+        evictionLock.lock();
+        try {
+            CacheEntry previous = cache.put(key, entry);
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(entry);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void link(CacheEntry entry) {
+        if (entry.expireTime > 0) {
+            timerWheel.schedule(entry);
+        }
+        if (evictor != null) {
+            evictor.onInsert(entry);
+            totalWeight += entry.weight;
+            evict();
+        }
+    }
+
+    private CacheEntry restore(String key) {
+        CacheSnapshot pending = snapshot;
+        if (pending == null) {
+            return null;
+        }
+
+        CacheSnapshot.Restored restored;
+        try {
+            restored = pending.take(key, clock.toWallTime(currentTime()));
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to restore cache entry " + key, e);
+            return null;
+        }
+        if (restored == null) {
+            return null;
+        }
+
+        long expireTime = restored.expireTime > 0 ? Math.max(1L, clock.fromWallTime(restored.expireTime)) : -1L;
+        CacheEntry entry = new CacheEntry(key, restored.value, expireTime, weigh(key, restored.value));
+        if (offHeap != null) {
+            offHeap.admit(entry);
+        }
+
+        evictionLock.lock();
+        try {
+            CacheEntry existing = cache.putIfAbsent(key, entry);
+            if (existing != null) {
+                release(entry);
+                return existing;
+            }
+            link(entry);
+            return entry;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void loadSnapshot() {
+        try {
+            this.snapshot = CacheSnapshot.open(snapshotFile, serializers, System.currentTimeMillis());
+            if (snapshot != null) {
+                logger.info("Cache snapshot indexed " + snapshot.size() + " entries from " + snapshotFile.getFileName());
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read cache snapshot " + snapshotFile, e);
+        }
+    }
+
+    private void saveSnapshot() {
+        try {
+            long time = clock.millis();
+            CacheSnapshot.write(snapshotFile, cache.values(), this::valueOf, serializers, snapshot, time,
+                    clock.toWallTime(time) - time);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to write cache snapshot " + snapshotFile, e);
+        }
+    }
+
+    private void evict() {
+        while (totalWeight > maximumWeight) {
+            CacheEntry victim = evictor.selectVictim();
+            if (victim == null) {
+                break;
+            }
+
+            totalWeight -= victim.weight;
+            timerWheel.deschedule(victim);
+            cache.remove(victim.key, victim);
+            release(victim);
+            stats.recordEviction(victim.weight);
+        }
+    }
+
+    private void expire(CacheEntry entry) {
+        if (!cache.remove(entry.key, entry)) {
+            return;
+        }
+
+        if (evictor != null) {
+            evictor.onRemove(entry);
+            totalWeight -= entry.weight;
+        }
+        release(entry);
+        stats.recordExpiration(1);
+    }
+
+    private boolean remove(CacheEntry entry) {
+        evictionLock.lock();
+        try {
+            if (cache.remove(entry.key, entry)) {
+                unlink(entry);
+                return true;
+            }
+            return false;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void runMaintenance() {
+        try {
+            cleanUp();
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "Cache maintenance failed", t);
+        }
+    }
+
+    private void exportStats() {
+        if (statsExporters.isEmpty()) {
+            return;
+        }
+
+        CacheStats snapshot = stats.snapshot();
+        for (Consumer<CacheStats> exporter : statsExporters) {
+            try {
+                exporter.accept(snapshot);
+            } catch (Throwable t) {
+                logger.log(Level.WARNING, "Cache stats exporter failed", t);
+            }
+        }
+    }
+
+    private void unlink(CacheEntry entry) {
+        timerWheel.deschedule(entry);
+        if (evictor != null) {
+            evictor.onRemove(entry);
+            totalWeight -= entry.weight;
+        }
+        release(entry);
+    }
+
+    private void release(CacheEntry entry) {
+        if (offHeap != null) {
+            offHeap.release(entry);
+        }
+    }
+
+    private Object valueOf(CacheEntry entry) {
+        return offHeap != null ? offHeap.resolve(entry) : entry.value;
+    }
+
+    long currentTime() {
+        return clock.millis();
+    }
+
+    public FrameworkClock getClock() {
+        return clock;
+    }
+
+    private void recordAccess(CacheEntry entry) {
+        entry.accesses++;
+        if (evictor != null && evictionLock.tryLock()) {
+            try {
+                evictor.onAccess(entry);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private int weigh(String key, Object value) {
+        if (weigher == null) {
+            return 1;
+        }
+
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Cache weight cannot be negative: " + key);
+        }
+        return weight;
+    }
+
+    public static final class Builder {
+        private long maximumSize = -1;
+        private long maximumWeight = -1;
+        private Weigher weigher;
+        private EvictionPolicy policy = EvictionPolicy.W_TINY_LFU;
+        private long maintenanceInterval = 1000L;
+        private long refreshAhead = 0L;
+        private Executor executor = ForkJoinPool.commonPool();
+        private boolean recordStats = false;
+        private long statsExportInterval = 60000L;
+        private Logger logger = Logger.getLogger(CacheService.class.getName());
+        private long offHeapCapacity = 0L;
+        private int offHeapThreshold = 0;
+        private int promoteThreshold = 8;
+        private final Map<Class<?>, CacheSerializer<?>> serializers = new HashMap<>();
+        private Path snapshotFile;
+        private FrameworkClock clock = FrameworkClock.monotonic();
+
+        private Builder() {
+        }
+
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Maximum size cannot be negative");
+            }
+            if (maximumWeight >= 0) {
+                throw new IllegalStateException("Maximum weight was already set");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder maximumWeight(long maximumWeight, Weigher weigher) {
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("Maximum weight cannot be negative");
+            }
+            if (weigher == null) {
+                throw new IllegalArgumentException("Weigher cannot be null");
+            }
+            if (maximumSize >= 0) {
+                throw new IllegalStateException("Maximum size was already set");
+            }
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder evictionPolicy(EvictionPolicy policy) {
+            if (policy == null) {
+                throw new IllegalArgumentException("Eviction policy cannot be null");
+            }
+            this.policy = policy;
+            return this;
+        }
+
+        public Builder maintenanceInterval(Duration interval) {
+            if (interval == null || interval.toMillis() <= 0) {
+                throw new IllegalArgumentException("Maintenance interval must be positive");
+            }
+            this.maintenanceInterval = interval.toMillis();
+            return this;
+        }
+
+        public Builder refreshAhead(Duration window) {
+            if (window == null || window.isNegative()) {
+                throw new IllegalArgumentException("Refresh window cannot be null or negative");
+            }
+            this.refreshAhead = window.toMillis();
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("Executor cannot be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder recordStats() {
+            this.recordStats = true;
+            return this;
+        }
+
+        public Builder statsExportInterval(Duration interval) {
+            if (interval == null || interval.toMillis() <= 0) {
+                throw new IllegalArgumentException("Stats export interval must be positive");
+            }
+            this.statsExportInterval = interval.toMillis();
+            return this;
+        }
+
+        public Builder logger(Logger logger) {
+            if (logger == null) {
+                throw new IllegalArgumentException("Logger cannot be null");
+            }
+            this.logger = logger;
+            return this;
+        }
+
+        public Builder offHeap(long capacityBytes, int thresholdBytes) {
+            if (capacityBytes < OffHeapStore.CHUNK_SIZE) {
+                throw new IllegalArgumentException("Off-heap capacity must be at least " + OffHeapStore.CHUNK_SIZE + " bytes");
+            }
+            if (thresholdBytes <= 0) {
+                throw new IllegalArgumentException("Off-heap threshold must be positive");
+            }
+            this.offHeapCapacity = capacityBytes;
+            this.offHeapThreshold = thresholdBytes;
+            return this;
+        }
+
+        public Builder promoteAfter(int hits) {
+            if (hits <= 0) {
+                throw new IllegalArgumentException("Promotion hits must be positive");
+            }
+            this.promoteThreshold = hits;
+            return this;
+        }
+
+        public Builder clock(FrameworkClock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("Clock cannot be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder persistTo(Path file) {
+            if (file == null) {
+                throw new IllegalArgumentException("Snapshot file cannot be null");
+            }
+            this.snapshotFile = file;
+            return this;
+        }
+
+        public <T> Builder serializer(Class<T> type, CacheSerializer<T> serializer) {
+            if (type == null || serializer == null) {
+                throw new IllegalArgumentException("Serializer type and serializer cannot be null");
+            }
+            serializers.put(type, serializer);
+            return this;
         }
 
-        boolean isExpired() {
-            return expireTime > 0 && System.currentTimeMillis() > expireTime;
+        public CacheService build() {
+            return new CacheService(this);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,243 @@
+package dev.m4trix.framework.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+final class CacheSnapshot {
+
+    private static final int MAGIC = 0x4D344353;
+    private static final int VERSION = 1;
+
+    private final String[] classNames;
+    private final CacheSerializer<?>[] serializers;
+    private final ByteBuffer buffer;
+    private final Map<String, Integer> index;
+
+    private CacheSnapshot(String[] classNames, CacheSerializer<?>[] serializers, ByteBuffer buffer,
+                          Map<String, Integer> index) {
+        this.classNames = classNames;
+        this.serializers = serializers;
+        this.buffer = buffer;
+        this.index = index;
+    }
+
+    static CacheSnapshot open(Path file, Map<Class<?>, CacheSerializer<?>> registered, long now) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a cache snapshot: " + file);
+            }
+
+            Map<String, CacheSerializer<?>> byName = new LinkedHashMap<>();
+            for (Map.Entry<Class<?>, CacheSerializer<?>> entry : registered.entrySet()) {
+                byName.put(entry.getKey().getName(), entry.getValue());
+            }
+
+            int classCount = buffer.getInt();
+            String[] classNames = new String[classCount];
+            CacheSerializer<?>[] serializers = new CacheSerializer<?>[classCount];
+            for (int i = 0; i < classCount; i++) {
+                classNames[i] = readString(buffer);
+                serializers[i] = byName.get(classNames[i]);
+            }
+
+            Map<String, Integer> index = new ConcurrentHashMap<>();
+            while (buffer.hasRemaining()) {
+                String key = readString(buffer);
+                int offset = buffer.position();
+                int classIndex = buffer.getInt();
+                long expireTime = buffer.getLong();
+                int length = buffer.getInt();
+                buffer.position(buffer.position() + length);
+
+                if (classIndex < 0 || classIndex >= classCount) {
+                    throw new IOException("Corrupt cache snapshot: " + file);
+                }
+                if (serializers[classIndex] != null && !isExpired(expireTime, now)) {
+                    index.put(key, offset);
+                }
+            }
+
+            return new CacheSnapshot(classNames, serializers, buffer, index);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated cache snapshot: " + file, e);
+        }
+    }
+
+    static void write(Path file, Collection<CacheEntry> entries, Function<CacheEntry, Object> values,
+                      Map<Class<?>, CacheSerializer<?>> registered, CacheSnapshot pending, long now,
+                      long wallOffset) throws IOException {
+        Map<String, Integer> classIndex = new LinkedHashMap<>();
+        for (Class<?> type : registered.keySet()) {
+            classIndex.putIfAbsent(type.getName(), classIndex.size());
+        }
+        if (pending != null) {
+            for (String className : pending.classNames) {
+                classIndex.putIfAbsent(className, classIndex.size());
+            }
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel),
+                     1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(classIndex.size());
+            for (String className : classIndex.keySet()) {
+                writeString(out, className);
+            }
+
+            for (CacheEntry entry : entries) {
+                if (isExpired(entry.expireTime, now)) {
+                    continue;
+                }
+
+                Object value = values.apply(entry);
+                if (value == null) {
+                    continue;
+                }
+
+                @SuppressWarnings("unchecked")
+                CacheSerializer<Object> serializer = (CacheSerializer<Object>) registered.get(value.getClass());
+                if (serializer == null) {
+                    continue;
+                }
+
+                byte[] data = serializer.serialize(value);
+                writeString(out, entry.key);
+                out.writeInt(classIndex.get(value.getClass().getName()));
+                out.writeLong(entry.expireTime > 0 ? entry.expireTime + wallOffset : entry.expireTime);
+                out.writeInt(data.length);
+                out.write(data);
+            }
+
+            if (pending != null) {
+                pending.copyTo(out, classIndex, now + wallOffset);
+            }
+
+            out.flush();
+            channel.force(true);
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    Restored take(String key, long now) {
+        Integer offset = index.remove(key);
+        if (offset == null) {
+            return null;
+        }
+
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        CacheSerializer<?> serializer = serializers[view.getInt()];
+        long expireTime = view.getLong();
+        int length = view.getInt();
+        if (isExpired(expireTime, now)) {
+            return null;
+        }
+
+        ByteBuffer slice = view.slice(view.position(), length).asReadOnlyBuffer();
+        Object value = serializer.deserialize(slice);
+        return value != null ? new Restored(value, expireTime) : null;
+    }
+
+    boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    void discard(String key) {
+        index.remove(key);
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    private void copyTo(DataOutputStream out, Map<String, Integer> classIndex, long now) throws IOException {
+        List<Map.Entry<String, Integer>> remaining = new ArrayList<>(index.entrySet());
+        byte[] data = new byte[0];
+
+        for (Map.Entry<String, Integer> entry : remaining) {
+            ByteBuffer view = buffer.duplicate();
+            view.position(entry.getValue());
+            int previousClass = view.getInt();
+            long expireTime = view.getLong();
+            int length = view.getInt();
+            if (isExpired(expireTime, now) || !index.containsKey(entry.getKey())) {
+                continue;
+            }
+
+            if (data.length < length) {
+                data = new byte[length];
+            }
+            view.get(data, 0, length);
+
+            writeString(out, entry.getKey());
+            out.writeInt(classIndex.get(classNames[previousClass]));
+            out.writeLong(expireTime);
+            out.writeInt(length);
+            out.write(data, 0, length);
+        }
+    }
+
+    private static boolean isExpired(long expireTime, long now) {
+        return expireTime > 0 && now > expireTime;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static final class Restored {
+        final Object value;
+        final long expireTime;
+
+        Restored(Object value, long expireTime) {
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.m4trix.framework.service;
+
+public final class CacheStats {
+
+    private static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+    private final long evictionWeight;
+    private final long expiredCount;
+
+    CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+               long totalLoadTime, long evictionCount, long evictionWeight, long expiredCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+        this.expiredCount = expiredCount;
+    }
+
+    public static CacheStats empty() {
+        return EMPTY;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    public double getMissRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    public long getLoadCount() {
+        return loadSuccessCount + loadFailureCount;
+    }
+
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    public double getAverageLoadPenalty() {
+        long loads = getLoadCount();
+        return loads == 0 ? 0.0 : (double) totalLoadTime / loads;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getEvictionWeight() {
+        return evictionWeight;
+    }
+
+    public long getExpiredCount() {
+        return expiredCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount
+                + ", misses=" + missCount
+                + ", loadSuccesses=" + loadSuccessCount
+                + ", loadFailures=" + loadFailureCount
+                + ", totalLoadTime=" + totalLoadTime
+                + ", evictions=" + evictionCount
+                + ", evictionWeight=" + evictionWeight
+                + ", expired=" + expiredCount + "}";
+    }
+}
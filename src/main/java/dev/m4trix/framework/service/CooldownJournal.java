@@ -0,0 +1,347 @@
+package dev.m4trix.framework.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+final class CooldownJournal {
+
+    static final int RECORD = 4;
+
+    interface Replayer {
+        void define(int id, String name);
+
+        void set(int id, long msb, long lsb, long deadline);
+
+        void remove(int id, long msb, long lsb);
+
+        void clear(int id);
+
+        void clearAll();
+    }
+
+    static final class Snapshot {
+        final String[] names;
+        final long[] records;
+
+        Snapshot(String[] names, long[] records) {
+            this.names = names;
+            this.records = records;
+        }
+    }
+
+    private static final int MAGIC = 0x4D34434B;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final byte DEFINE = 1;
+    private static final byte SET = 2;
+    private static final byte REMOVE = 3;
+    private static final byte CLEAR = 4;
+    private static final byte CLEAR_ALL = 5;
+
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private final ReentrantLock appendLock;
+    private final ReentrantLock writeLock;
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private FileChannel channel;
+    private volatile long size;
+
+    CooldownJournal(Path directory) {
+        this.journalFile = directory.resolve("cooldowns.log");
+        this.snapshotFile = directory.resolve("cooldowns.snapshot");
+        this.appendLock = new ReentrantLock();
+        this.writeLock = new ReentrantLock();
+        this.active = ByteBuffer.allocate(BUFFER_SIZE);
+        this.spare = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    int replay(Replayer replayer) throws IOException {
+        int records = 0;
+
+        ByteBuffer snapshot = read(snapshotFile);
+        if (snapshot != null) {
+            try {
+                if (snapshot.getInt() != MAGIC || snapshot.getInt() != VERSION) {
+                    throw new IOException("Not a cooldown snapshot: " + snapshotFile);
+                }
+
+                int keyCount = snapshot.getInt();
+                for (int id = 0; id < keyCount; id++) {
+                    replayer.define(id, readString(snapshot));
+                }
+
+                int count = snapshot.getInt();
+                for (int i = 0; i < count; i++) {
+                    replayer.set(snapshot.getInt(), snapshot.getLong(), snapshot.getLong(), snapshot.getLong());
+                    records++;
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Truncated cooldown snapshot: " + snapshotFile, e);
+            }
+        }
+
+        ByteBuffer journal = read(journalFile);
+        if (journal != null) {
+            records += replayJournal(journal, replayer);
+        }
+        return records;
+    }
+
+    void open() throws IOException {
+        Files.createDirectories(journalFile.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        this.size = channel.size();
+    }
+
+    void define(int id, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        appendLock.lock();
+        try {
+            ByteBuffer buffer = reserve(9 + bytes.length);
+            buffer.put(DEFINE).putInt(id).putInt(bytes.length).put(bytes);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void set(int id, long msb, long lsb, long deadline) {
+        appendLock.lock();
+        try {
+            reserve(29).put(SET).putInt(id).putLong(msb).putLong(lsb).putLong(deadline);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void remove(int id, long msb, long lsb) {
+        appendLock.lock();
+        try {
+            reserve(21).put(REMOVE).putInt(id).putLong(msb).putLong(lsb);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void clear(int id) {
+        appendLock.lock();
+        try {
+            reserve(5).put(CLEAR).putInt(id);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void clearAll() {
+        appendLock.lock();
+        try {
+            reserve(1).put(CLEAR_ALL);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void flush() throws IOException {
+        writeLock.lock();
+        try {
+            ByteBuffer pending;
+            appendLock.lock();
+            try {
+                if (active.position() == 0) {
+                    return;
+                }
+                pending = active;
+                active = spare;
+                spare = pending;
+            } finally {
+                appendLock.unlock();
+            }
+
+            pending.flip();
+            try {
+                while (pending.hasRemaining()) {
+                    channel.write(pending);
+                }
+            } catch (IOException | RuntimeException e) {
+                restore(pending);
+                throw e;
+            }
+            channel.force(false);
+            size = channel.position();
+
+            if (pending.capacity() > BUFFER_SIZE) {
+                spare = ByteBuffer.allocate(BUFFER_SIZE);
+            } else {
+                pending.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void compact(Supplier<Snapshot> capture) throws IOException {
+        writeLock.lock();
+        try {
+            Snapshot snapshot;
+            appendLock.lock();
+            try {
+                snapshot = capture.get();
+            } finally {
+                appendLock.unlock();
+            }
+
+            writeSnapshot(snapshot);
+            channel.truncate(0L);
+            channel.position(0L);
+            channel.force(true);
+            size = 0L;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void restore(ByteBuffer pending) {
+        pending.compact();
+        appendLock.lock();
+        try {
+            active.flip();
+            ByteBuffer merged = pending;
+            if (merged.remaining() < active.remaining()) {
+                merged = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + active.remaining()));
+                pending.flip();
+                merged.put(pending);
+            }
+            merged.put(active);
+
+            active.clear();
+            spare = active.capacity() > BUFFER_SIZE ? ByteBuffer.allocate(BUFFER_SIZE) : active;
+            active = merged;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private ByteBuffer reserve(int bytes) {
+        if (active.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(active.capacity() * 2, active.position() + bytes));
+            active.flip();
+            grown.put(active);
+            active = grown;
+        }
+        return active;
+    }
+
+    private void writeSnapshot(Snapshot snapshot) throws IOException {
+        Path temp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(out),
+                     BUFFER_SIZE))) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(snapshot.names.length);
+            for (String name : snapshot.names) {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+
+            long[] records = snapshot.records;
+            data.writeInt(records.length / RECORD);
+            for (int i = 0; i < records.length; i += RECORD) {
+                data.writeInt((int) records[i]);
+                data.writeLong(records[i + 1]);
+                data.writeLong(records[i + 2]);
+                data.writeLong(records[i + 3]);
+            }
+
+            data.flush();
+            out.force(true);
+        }
+
+        Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int replayJournal(ByteBuffer journal, Replayer replayer) {
+        int records = 0;
+
+        try {
+            while (journal.hasRemaining()) {
+                byte op = journal.get();
+                switch (op) {
+                    case DEFINE:
+                        int id = journal.getInt();
+                        replayer.define(id, readString(journal));
+                        break;
+                    case SET:
+                        replayer.set(journal.getInt(), journal.getLong(), journal.getLong(), journal.getLong());
+                        break;
+                    case REMOVE:
+                        replayer.remove(journal.getInt(), journal.getLong(), journal.getLong());
+                        break;
+                    case CLEAR:
+                        replayer.clear(journal.getInt());
+                        break;
+                    case CLEAR_ALL:
+                        replayer.clearAll();
+                        break;
+                    default:
+                        return records;
+                }
+                records++;
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return records;
+        }
+        return records;
+    }
+
+    private static ByteBuffer read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(file));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.m4trix.framework.service;
+
+public final class CooldownKey {
+
+    final int id;
+    private final String name;
+
+    CooldownKey(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "CooldownKey{" + name + "}";
+    }
+}
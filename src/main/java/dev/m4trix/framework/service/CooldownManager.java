@@ -1,29 +1,134 @@
 package dev.m4trix.framework.service;
 
+import dev.m4trix.framework.util.FrameworkClock;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public final class CooldownManager implements Service {
 
-    private final Map<String, Map<UUID, Long>> cooldowns;
+    private static final long DEFAULT_TICK_MILLIS = 100L;
+    private static final int WHEEL_BUCKETS = 512;
+    private static final long MISSING = 0L;
+    private static final long COMPACT_BYTES = 8L * 1024 * 1024;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5L;
+
+    private final Map<String, CooldownKey> keys;
+    private final CooldownTable table;
+    private final long tickMillis;
+    private final CooldownWheel wheel;
+    private final CooldownWheel.Expirer expirer;
+    private final Logger logger;
+    private final FrameworkClock clock;
+    private final Path journalDirectory;
+    private final long flushInterval;
+    private final long compactInterval;
+    private volatile CooldownJournal journal;
     private volatile boolean running;
+    private ScheduledExecutorService ticker;
+    private long lastCompaction;
 
     public CooldownManager() {
-        this.cooldowns = new ConcurrentHashMap<>();
+        this(builder());
+    }
+
+    public CooldownManager(Duration tick) {
+        this(builder().tick(tick));
+    }
+
+    public CooldownManager(FrameworkClock clock) {
+        this(builder().clock(clock));
+    }
+
+    public CooldownManager(Duration tick, FrameworkClock clock) {
+        this(builder().tick(tick).clock(clock));
+    }
+
+    private CooldownManager(Builder builder) {
+        this.keys = new ConcurrentHashMap<>();
+        this.table = new CooldownTable();
+        this.tickMillis = builder.tickMillis;
+        this.clock = builder.clock;
+        this.wheel = new CooldownWheel(tickMillis, WHEEL_BUCKETS, clock.millis());
+        this.expirer = this::expire;
+        this.logger = builder.logger;
+        this.journalDirectory = builder.journalDirectory;
+        this.flushInterval = builder.flushInterval;
+        this.compactInterval = builder.compactInterval;
         this.running = false;
     }
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
     @Override
-    public void start() {
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, getName() + "-Tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+
+        if (journalDirectory != null) {
+            openJournal();
+            ticker.scheduleWithFixedDelay(this::flushJournal, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
         this.running = true;
     }
 
     @Override
-    public void stop() {
+    public synchronized void stop() {
         this.running = false;
-        cooldowns.clear();
+        boolean interrupted = false;
+        if (ticker != null) {
+            ticker.shutdown();
+            try {
+                if (!ticker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warning("Cooldown ticker did not stop within " + SHUTDOWN_TIMEOUT_SECONDS + "s");
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            ticker = null;
+        }
+
+        CooldownJournal current = journal;
+        if (current != null) {
+            this.journal = null;
+            try {
+                current.flush();
+                current.compact(this::captureSnapshot);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Failed to persist cooldowns", e);
+            } finally {
+                closeQuietly(current);
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        table.clear();
+        wheel.clear();
     }
 
     @Override
@@ -31,13 +136,42 @@ public final class CooldownManager implements Service {
         return running;
     }
 
+    @Override
+    public boolean requiresMainThread() {
+        return false;
+    }
+
+    public CooldownKey key(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Cooldown key cannot be null");
+        }
+
+        CooldownKey key = keys.get(name);
+        if (key != null) {
+            return key;
+        }
+
+        synchronized (keys) {
+            key = keys.get(name);
+            if (key == null) {
+                key = new CooldownKey(keys.size(), name);
+                keys.put(name, key);
+
+                CooldownJournal current = journal;
+                if (current != null) {
+                    current.define(key.id, name);
+                }
+            }
+            return key;
+        }
+    }
+
     public void set(String key, UUID player, Duration duration) {
         if (key == null || player == null || duration == null) {
             return;
         }
 
-        cooldowns.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
-                 .put(player, System.currentTimeMillis() + duration.toMillis());
+        set(key(key), player, duration.toMillis());
     }
 
     public void set(String key, UUID player, long millis) {
@@ -45,82 +179,392 @@ public final class CooldownManager implements Service {
             return;
         }
 
-        cooldowns.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
-                 .put(player, System.currentTimeMillis() + millis);
+        set(key(key), player, millis);
     }
 
-    public boolean has(String key, UUID player) {
-        if (key == null || player == null) {
-            return false;
+    public void set(CooldownKey key, UUID player, Duration duration) {
+        if (key == null || player == null || duration == null) {
+            return;
         }
 
-        Map<UUID, Long> keyCooldowns = cooldowns.get(key);
-        if (keyCooldowns == null) {
-            return false;
+        set(key, player, duration.toMillis());
+    }
+
+    public void set(CooldownKey key, UUID player, long millis) {
+        if (key == null || player == null) {
+            return;
         }
 
-        Long expiration = keyCooldowns.get(player);
-        if (expiration == null) {
-            return false;
+        long msb = player.getMostSignificantBits();
+        long lsb = player.getLeastSignificantBits();
+        long deadline = clock.millis() + millis;
+
+        table.put(msb, lsb, key.id, deadline);
+        wheel.schedule(key.id, msb, lsb, deadline);
+
+        CooldownJournal current = journal;
+        if (current != null) {
+            current.set(key.id, msb, lsb, clock.toWallTime(deadline));
         }
+    }
 
-        if (System.currentTimeMillis() >= expiration) {
-            keyCooldowns.remove(player);
-            return false;
+    public void setAll(UUID player, long millis, CooldownKey... keys) {
+        if (player == null || keys == null) {
+            return;
         }
 
-        return true;
+        long deadline = clock.millis() + millis;
+        long[] deadlines = new long[keys.length];
+        Arrays.fill(deadlines, deadline);
+        schedule(player, keys, deadlines);
     }
 
-    public Duration remaining(String key, UUID player) {
-        if (key == null || player == null) {
-            return Duration.ZERO;
+    public void setAll(UUID player, CooldownKey[] keys, long[] millis) {
+        if (player == null || keys == null || millis == null) {
+            return;
+        }
+        if (keys.length != millis.length) {
+            throw new IllegalArgumentException("Keys and durations must have the same length");
         }
 
-        Map<UUID, Long> keyCooldowns = cooldowns.get(key);
-        if (keyCooldowns == null) {
-            return Duration.ZERO;
+        long now = clock.millis();
+        long[] deadlines = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            deadlines[i] = now + millis[i];
         }
+        schedule(player, keys, deadlines);
+    }
+
+    public boolean has(String key, UUID player) {
+        CooldownKey handle = keyOf(key);
+        return handle != null && has(handle, player);
+    }
+
+    public boolean has(CooldownKey key, UUID player) {
+        return deadline(key, player) > clock.millis();
+    }
+
+    public boolean hasAny(UUID player, CooldownKey[] keys) {
+        return activeMask(player, keys) != 0L;
+    }
 
-        Long expiration = keyCooldowns.get(player);
-        if (expiration == null) {
-            return Duration.ZERO;
+    public long activeMask(UUID player, CooldownKey[] keys) {
+        if (player == null || keys == null) {
+            return 0L;
+        }
+        if (keys.length > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " keys can be checked at once");
         }
 
-        long remaining = expiration - System.currentTimeMillis();
-        if (remaining <= 0) {
-            keyCooldowns.remove(player);
-            return Duration.ZERO;
+        return table.activeMask(player.getMostSignificantBits(), player.getLeastSignificantBits(), keys,
+                clock.millis());
+    }
+
+    public Duration remaining(String key, UUID player) {
+        CooldownKey handle = keyOf(key);
+        return handle != null ? remaining(handle, player) : Duration.ZERO;
+    }
+
+    public Duration remaining(CooldownKey key, UUID player) {
+        long remaining = remainingMillis(key, player);
+        return remaining > 0 ? Duration.ofMillis(remaining) : Duration.ZERO;
+    }
+
+    public long remainingMillis(CooldownKey key, UUID player) {
+        return Math.max(0L, deadline(key, player) - clock.millis());
+    }
+
+    public void remainingAll(UUID player, CooldownKey[] keys, long[] out) {
+        if (keys == null || out == null) {
+            throw new IllegalArgumentException("Keys and output cannot be null");
+        }
+        if (out.length < keys.length) {
+            throw new IllegalArgumentException("Output array is shorter than keys");
+        }
+        if (player == null) {
+            Arrays.fill(out, 0, keys.length, 0L);
+            return;
         }
 
-        return Duration.ofMillis(remaining);
+        table.getAll(player.getMostSignificantBits(), player.getLeastSignificantBits(), keys, out);
+        long now = clock.millis();
+        for (int i = 0; i < keys.length; i++) {
+            out[i] = Math.max(0L, out[i] - now);
+        }
     }
 
     public void remove(String key, UUID player) {
+        CooldownKey handle = keyOf(key);
+        if (handle != null) {
+            remove(handle, player);
+        }
+    }
+
+    public void remove(CooldownKey key, UUID player) {
         if (key == null || player == null) {
             return;
         }
 
-        Map<UUID, Long> keyCooldowns = cooldowns.get(key);
-        if (keyCooldowns != null) {
-            keyCooldowns.remove(player);
+        long msb = player.getMostSignificantBits();
+        long lsb = player.getLeastSignificantBits();
+        if (table.remove(msb, lsb, key.id)) {
+            CooldownJournal current = journal;
+            if (current != null) {
+                current.remove(key.id, msb, lsb);
+            }
         }
     }
 
     public void clear(String key) {
+        CooldownKey handle = keyOf(key);
+        if (handle != null) {
+            clear(handle);
+        }
+    }
+
+    public void clear(CooldownKey key) {
         if (key != null) {
-            cooldowns.remove(key);
+            table.clearColumn(key.id);
+
+            CooldownJournal current = journal;
+            if (current != null) {
+                current.clear(key.id);
+            }
         }
     }
 
     public void clearAll() {
-        cooldowns.clear();
+        table.clear();
+        wheel.clear();
+
+        CooldownJournal current = journal;
+        if (current != null) {
+            current.clearAll();
+        }
     }
 
     public void cleanExpired() {
-        long now = System.currentTimeMillis();
-        cooldowns.values().forEach(map -> 
-            map.entrySet().removeIf(entry -> entry.getValue() <= now)
-        );
+        wheel.advance(clock.millis(), expirer);
+    }
+
+    public FrameworkClock getClock() {
+        return clock;
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    private void schedule(UUID player, CooldownKey[] keys, long[] deadlines) {
+        for (CooldownKey key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("Cooldown key cannot be null");
+            }
+        }
+
+        long msb = player.getMostSignificantBits();
+        long lsb = player.getLeastSignificantBits();
+        table.putAll(msb, lsb, keys, deadlines);
+        for (int i = 0; i < keys.length; i++) {
+            wheel.schedule(keys[i].id, msb, lsb, deadlines[i]);
+        }
+
+        CooldownJournal current = journal;
+        if (current != null) {
+            long offset = clock.toWallTime(0L);
+            for (int i = 0; i < keys.length; i++) {
+                current.set(keys[i].id, msb, lsb, deadlines[i] + offset);
+            }
+        }
+    }
+
+    private long deadline(CooldownKey key, UUID player) {
+        if (key == null || player == null) {
+            return MISSING;
+        }
+
+        return table.get(player.getMostSignificantBits(), player.getLeastSignificantBits(), key.id);
+    }
+
+    private CooldownKey keyOf(String name) {
+        return name != null ? keys.get(name) : null;
+    }
+
+    private void expire(int id, long msb, long lsb, long deadline) {
+        table.removeIfDeadline(msb, lsb, id, deadline);
+    }
+
+    private void openJournal() {
+        CooldownJournal opened = new CooldownJournal(journalDirectory);
+        try {
+            int records = opened.replay(new Replay());
+            opened.open();
+            opened.compact(this::captureSnapshot);
+            this.lastCompaction = clock.millis();
+            this.journal = opened;
+            logger.info("Cooldown journal replayed " + records + " records, " + table.size() + " cooldowns active");
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Failed to open cooldown journal in " + journalDirectory, e);
+            closeQuietly(opened);
+        }
+    }
+
+    private void flushJournal() {
+        CooldownJournal current = journal;
+        if (current == null) {
+            return;
+        }
+
+        try {
+            current.flush();
+
+            long now = clock.millis();
+            if (current.size() >= COMPACT_BYTES || (current.size() > 0 && now - lastCompaction >= compactInterval)) {
+                current.compact(this::captureSnapshot);
+                lastCompaction = now;
+            }
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "Failed to write cooldown journal", t);
+        }
+    }
+
+    private CooldownJournal.Snapshot captureSnapshot() {
+        String[] names = new String[keys.size()];
+        for (CooldownKey key : keys.values()) {
+            if (key.id < names.length) {
+                names[key.id] = key.getName();
+            }
+        }
+
+        long now = clock.millis();
+        return new CooldownJournal.Snapshot(names, table.snapshot(now, clock.toWallTime(now) - now));
+    }
+
+    private void closeQuietly(CooldownJournal closing) {
+        try {
+            closing.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to close cooldown journal", e);
+        }
+    }
+
+    private void tick() {
+        try {
+            cleanExpired();
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "Cooldown tick failed", t);
+        }
+    }
+
+    private final class Replay implements CooldownJournal.Replayer {
+        private final List<CooldownKey> mapped = new ArrayList<>();
+
+        @Override
+        public void define(int id, String name) {
+            while (mapped.size() <= id) {
+                mapped.add(null);
+            }
+            mapped.set(id, key(name));
+        }
+
+        @Override
+        public void set(int id, long msb, long lsb, long deadline) {
+            CooldownKey key = mapped(id);
+            long local = clock.fromWallTime(deadline);
+            if (key != null && local > clock.millis()) {
+                table.put(msb, lsb, key.id, local);
+                wheel.schedule(key.id, msb, lsb, local);
+            }
+        }
+
+        @Override
+        public void remove(int id, long msb, long lsb) {
+            CooldownKey key = mapped(id);
+            if (key != null) {
+                table.remove(msb, lsb, key.id);
+            }
+        }
+
+        @Override
+        public void clear(int id) {
+            CooldownKey key = mapped(id);
+            if (key != null) {
+                table.clearColumn(key.id);
+            }
+        }
+
+        @Override
+        public void clearAll() {
+            table.clear();
+            wheel.clear();
+        }
+
+        private CooldownKey mapped(int id) {
+            return id >= 0 && id < mapped.size() ? mapped.get(id) : null;
+        }
+    }
+
+    public static final class Builder {
+        private long tickMillis = DEFAULT_TICK_MILLIS;
+        private FrameworkClock clock = FrameworkClock.monotonic();
+        private Path journalDirectory;
+        private long flushInterval = 50L;
+        private long compactInterval = TimeUnit.MINUTES.toMillis(10);
+        private Logger logger = Logger.getLogger(CooldownManager.class.getName());
+
+        private Builder() {
+        }
+
+        public Builder tick(Duration tick) {
+            if (tick == null || tick.toMillis() <= 0) {
+                throw new IllegalArgumentException("Cooldown tick must be positive");
+            }
+            this.tickMillis = tick.toMillis();
+            return this;
+        }
+
+        public Builder clock(FrameworkClock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("Clock cannot be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder persistTo(Path directory) {
+            if (directory == null) {
+                throw new IllegalArgumentException("Journal directory cannot be null");
+            }
+            this.journalDirectory = directory;
+            return this;
+        }
+
+        public Builder flushInterval(Duration interval) {
+            if (interval == null || interval.toMillis() <= 0) {
+                throw new IllegalArgumentException("Flush interval must be positive");
+            }
+            this.flushInterval = interval.toMillis();
+            return this;
+        }
+
+        public Builder compactInterval(Duration interval) {
+            if (interval == null || interval.toMillis() <= 0) {
+                throw new IllegalArgumentException("Compaction interval must be positive");
+            }
+            this.compactInterval = interval.toMillis();
+            return this;
+        }
+
+        public Builder logger(Logger logger) {
+            if (logger == null) {
+                throw new IllegalArgumentException("Logger cannot be null");
+            }
+            this.logger = logger;
+            return this;
+        }
+
+        public CooldownManager build() {
+            return new CooldownManager(this);
+        }
     }
-}
\ No newline at end of file
+}
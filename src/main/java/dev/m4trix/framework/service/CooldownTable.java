@@ -0,0 +1,320 @@
+package dev.m4trix.framework.service;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+final class CooldownTable {
+
+    private static final long NO_ROW = -1L;
+    private static final int MINIMUM_ROWS = 16;
+    private static final int MINIMUM_COLUMNS = 8;
+
+    private final StampedLock lock;
+    private final UuidLongMap players;
+    private long[][] rows;
+    private long[] rowMsb;
+    private long[] rowLsb;
+    private int[] counts;
+    private int[] freeRows;
+    private int freeCount;
+    private int nextRow;
+    private int size;
+
+    CooldownTable() {
+        this.lock = new StampedLock();
+        this.players = new UuidLongMap();
+        this.rows = new long[MINIMUM_ROWS][];
+        this.rowMsb = new long[MINIMUM_ROWS];
+        this.rowLsb = new long[MINIMUM_ROWS];
+        this.counts = new int[MINIMUM_ROWS];
+        this.freeRows = new int[MINIMUM_ROWS];
+    }
+
+    long get(long msb, long lsb, int column) {
+        long stamp = lock.tryOptimisticRead();
+        long result = read(msb, lsb, column);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = read(msb, lsb, column);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    void getAll(long msb, long lsb, CooldownKey[] keys, long[] out) {
+        long stamp = lock.tryOptimisticRead();
+        readAll(msb, lsb, keys, out);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                readAll(msb, lsb, keys, out);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    long activeMask(long msb, long lsb, CooldownKey[] keys, long now) {
+        long stamp = lock.tryOptimisticRead();
+        long result = readMask(msb, lsb, keys, now);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = readMask(msb, lsb, keys, now);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    void put(long msb, long lsb, int column, long deadline) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowFor(msb, lsb);
+            long[] values = columnsFor(row, column);
+            if (values[column] == 0L) {
+                counts[row]++;
+                size++;
+            }
+            values[column] = deadline;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void putAll(long msb, long lsb, CooldownKey[] keys, long[] deadlines) {
+        long stamp = lock.writeLock();
+        try {
+            int row = rowFor(msb, lsb);
+            for (int i = 0; i < keys.length; i++) {
+                int column = keys[i].id;
+                long[] values = columnsFor(row, column);
+                if (values[column] == 0L) {
+                    counts[row]++;
+                    size++;
+                }
+                values[column] = deadlines[i];
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean remove(long msb, long lsb, int column) {
+        long stamp = lock.writeLock();
+        try {
+            return removeAt(msb, lsb, column, 0L);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean removeIfDeadline(long msb, long lsb, int column, long deadline) {
+        long stamp = lock.writeLock();
+        try {
+            return removeAt(msb, lsb, column, deadline);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void clearColumn(int column) {
+        long stamp = lock.writeLock();
+        try {
+            for (int row = 0; row < nextRow; row++) {
+                long[] values = rows[row];
+                if (values != null && column < values.length && values[column] != 0L) {
+                    values[column] = 0L;
+                    size--;
+                    if (--counts[row] == 0) {
+                        releaseRow(row);
+                    }
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    long[] snapshot(long now, long offset) {
+        long stamp = lock.readLock();
+        try {
+            long[] records = new long[size * CooldownJournal.RECORD];
+            int length = 0;
+
+            for (int row = 0; row < nextRow; row++) {
+                long[] values = rows[row];
+                if (values == null) {
+                    continue;
+                }
+
+                for (int column = 0; column < values.length; column++) {
+                    long deadline = values[column];
+                    if (deadline > now) {
+                        records[length] = column;
+                        records[length + 1] = rowMsb[row];
+                        records[length + 2] = rowLsb[row];
+                        records[length + 3] = deadline + offset;
+                        length += CooldownJournal.RECORD;
+                    }
+                }
+            }
+            return length == records.length ? records : Arrays.copyOf(records, length);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.tryOptimisticRead();
+        int result = size;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            players.clear();
+            rows = new long[MINIMUM_ROWS][];
+            rowMsb = new long[MINIMUM_ROWS];
+            rowLsb = new long[MINIMUM_ROWS];
+            counts = new int[MINIMUM_ROWS];
+            freeRows = new int[MINIMUM_ROWS];
+            freeCount = 0;
+            nextRow = 0;
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private long read(long msb, long lsb, int column) {
+        long row = players.get(msb, lsb, 0L, NO_ROW);
+        if (row == NO_ROW) {
+            return 0L;
+        }
+
+        long[][] r = rows;
+        long[] values = row < r.length ? r[(int) row] : null;
+        return values != null && column < values.length ? values[column] : 0L;
+    }
+
+    private void readAll(long msb, long lsb, CooldownKey[] keys, long[] out) {
+        long row = players.get(msb, lsb, 0L, NO_ROW);
+        long[][] r = rows;
+        long[] values = row != NO_ROW && row < r.length ? r[(int) row] : null;
+
+        for (int i = 0; i < keys.length; i++) {
+            int column = keys[i].id;
+            out[i] = values != null && column < values.length ? values[column] : 0L;
+        }
+    }
+
+    private long readMask(long msb, long lsb, CooldownKey[] keys, long now) {
+        long row = players.get(msb, lsb, 0L, NO_ROW);
+        if (row == NO_ROW) {
+            return 0L;
+        }
+
+        long[][] r = rows;
+        long[] values = row < r.length ? r[(int) row] : null;
+        if (values == null) {
+            return 0L;
+        }
+
+        long mask = 0L;
+        for (int i = 0; i < keys.length; i++) {
+            int column = keys[i].id;
+            if (column < values.length && values[column] > now) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private boolean removeAt(long msb, long lsb, int column, long deadline) {
+        long found = players.get(msb, lsb, 0L, NO_ROW);
+        if (found == NO_ROW) {
+            return false;
+        }
+
+        int row = (int) found;
+        long[] values = rows[row];
+        if (column >= values.length || values[column] == 0L) {
+            return false;
+        }
+        if (deadline != 0L && values[column] != deadline) {
+            return false;
+        }
+
+        values[column] = 0L;
+        size--;
+        if (--counts[row] == 0) {
+            releaseRow(row);
+        }
+        return true;
+    }
+
+    private void releaseRow(int row) {
+        players.remove(rowMsb[row], rowLsb[row]);
+        rows[row] = null;
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    private int rowFor(long msb, long lsb) {
+        long found = players.get(msb, lsb, 0L, NO_ROW);
+        if (found != NO_ROW) {
+            return (int) found;
+        }
+
+        int row;
+        if (freeCount > 0) {
+            row = freeRows[--freeCount];
+        } else {
+            row = nextRow++;
+            if (row == rows.length) {
+                rows = Arrays.copyOf(rows, row * 2);
+                rowMsb = Arrays.copyOf(rowMsb, row * 2);
+                rowLsb = Arrays.copyOf(rowLsb, row * 2);
+                counts = Arrays.copyOf(counts, row * 2);
+            }
+        }
+
+        counts[row] = 0;
+        rowMsb[row] = msb;
+        rowLsb[row] = lsb;
+        players.put(msb, lsb, row, 0L);
+        return row;
+    }
+
+    private long[] columnsFor(int row, int column) {
+        long[] values = rows[row];
+        if (values == null) {
+            values = new long[Math.max(MINIMUM_COLUMNS, column + 1)];
+            rows[row] = values;
+        } else if (column >= values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, column + 1));
+            rows[row] = values;
+        }
+        return values;
+    }
+}
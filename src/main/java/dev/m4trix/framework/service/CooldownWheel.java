@@ -0,0 +1,129 @@
+package dev.m4trix.framework.service;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class CooldownWheel {
+
+    interface Expirer {
+        void expire(int keyId, long msb, long lsb, long deadline);
+    }
+
+    private static final int RECORD = 4;
+    private static final int KEY = 0;
+    private static final int MSB = 1;
+    private static final int LSB = 2;
+    private static final int DEADLINE = 3;
+    private static final int INITIAL_BUCKET_CAPACITY = 4 * RECORD;
+
+    private final long tickMillis;
+    private final long[][] buckets;
+    private final int[] lengths;
+    private final int mask;
+    private final ReentrantLock lock;
+    private long tick;
+
+    CooldownWheel(long tickMillis, int bucketCount, long now) {
+        this.tickMillis = tickMillis;
+        this.buckets = new long[Integer.highestOneBit(bucketCount - 1) << 1][];
+        this.lengths = new int[buckets.length];
+        this.mask = buckets.length - 1;
+        this.lock = new ReentrantLock();
+        this.tick = now / tickMillis;
+    }
+
+    void schedule(int keyId, long msb, long lsb, long deadline) {
+        lock.lock();
+        try {
+            long target = Math.max(deadline / tickMillis + 1, tick + 1);
+            int index = (int) (target & mask);
+
+            long[] bucket = buckets[index];
+            int length = lengths[index];
+            if (bucket == null) {
+                bucket = new long[INITIAL_BUCKET_CAPACITY];
+                buckets[index] = bucket;
+            } else if (length == bucket.length) {
+                bucket = Arrays.copyOf(bucket, length * 2);
+                buckets[index] = bucket;
+            }
+
+            bucket[length + KEY] = keyId;
+            bucket[length + MSB] = msb;
+            bucket[length + LSB] = lsb;
+            bucket[length + DEADLINE] = deadline;
+            lengths[index] = length + RECORD;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int advance(long now, Expirer expirer) {
+        lock.lock();
+        try {
+            long current = now / tickMillis;
+            long steps = Math.min(current - tick, buckets.length);
+            int expired = 0;
+
+            for (long i = 1; i <= steps; i++) {
+                expired += expireBucket((int) ((tick + i) & mask), now, expirer);
+            }
+
+            if (current > tick) {
+                tick = current;
+            }
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int pending() {
+        lock.lock();
+        try {
+            int count = 0;
+            for (int length : lengths) {
+                count += length / RECORD;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            Arrays.fill(buckets, null);
+            Arrays.fill(lengths, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int expireBucket(int index, long now, Expirer expirer) {
+        long[] bucket = buckets[index];
+        int length = lengths[index];
+        int kept = 0;
+        int expired = 0;
+
+        for (int i = 0; i < length; i += RECORD) {
+            long deadline = bucket[i + DEADLINE];
+            if (deadline <= now) {
+                expirer.expire((int) bucket[i + KEY], bucket[i + MSB], bucket[i + LSB], deadline);
+                expired++;
+            } else {
+                if (kept != i) {
+                    System.arraycopy(bucket, i, bucket, kept, RECORD);
+                }
+                kept += RECORD;
+            }
+        }
+
+        if (kept == 0 && bucket != null && bucket.length > INITIAL_BUCKET_CAPACITY) {
+            buckets[index] = null;
+        }
+        lengths[index] = kept;
+        return expired;
+    }
+}
@@ -0,0 +1,13 @@
+package dev.m4trix.framework.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DependsOn {
+
+    Class<? extends Service>[] value();
+}
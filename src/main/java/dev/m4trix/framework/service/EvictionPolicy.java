@@ -0,0 +1,10 @@
+package dev.m4trix.framework.service;
+
+public enum EvictionPolicy {
+
+    LRU,
+
+    LFU,
+
+    W_TINY_LFU
+}
@@ -0,0 +1,83 @@
+package dev.m4trix.framework.service;
+
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAXIMUM_CAPACITY = 1 << 20;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(long expectedEntries) {
+        int capacity = (int) Math.max(16, Math.min(expectedEntries, MAXIMUM_CAPACITY));
+        this.table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        this.tableMask = table.length - 1;
+        this.sampleSize = 10 * capacity;
+    }
+
+    int frequency(Object item) {
+        int hash = spread(item.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = 15;
+
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+
+        return frequency;
+    }
+
+    void increment(Object item) {
+        int hash = spread(item.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long value = (hash + SEEDS[depth]) * SEEDS[depth];
+        value += value >>> 32;
+        return ((int) value) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -0,0 +1,109 @@
+package dev.m4trix.framework.service;
+
+final class LfuEvictor implements CacheEvictor {
+
+    private FrequencyBucket lowest;
+
+    @Override
+    public void onInsert(CacheEntry entry) {
+        if (lowest == null || lowest.frequency != 1) {
+            FrequencyBucket bucket = new FrequencyBucket(1);
+            bucket.next = lowest;
+            if (lowest != null) {
+                lowest.prev = bucket;
+            }
+            lowest = bucket;
+        }
+
+        lowest.entries.addLast(entry);
+        entry.bucket = lowest;
+    }
+
+    @Override
+    public void onAccess(CacheEntry entry) {
+        FrequencyBucket current = entry.bucket;
+        if (current == null || current.frequency == Integer.MAX_VALUE) {
+            return;
+        }
+
+        FrequencyBucket target = current.next;
+        if (target == null || target.frequency != current.frequency + 1) {
+            target = new FrequencyBucket(current.frequency + 1);
+            target.prev = current;
+            target.next = current.next;
+            if (current.next != null) {
+                current.next.prev = target;
+            }
+            current.next = target;
+        }
+
+        current.entries.remove(entry);
+        target.entries.addLast(entry);
+        entry.bucket = target;
+
+        if (current.entries.isEmpty()) {
+            unlink(current);
+        }
+    }
+
+    @Override
+    public void onRemove(CacheEntry entry) {
+        FrequencyBucket bucket = entry.bucket;
+        if (bucket == null) {
+            return;
+        }
+
+        bucket.entries.remove(entry);
+        entry.bucket = null;
+
+        if (bucket.entries.isEmpty()) {
+            unlink(bucket);
+        }
+    }
+
+    @Override
+    public CacheEntry selectVictim() {
+        if (lowest == null) {
+            return null;
+        }
+
+        CacheEntry victim = lowest.entries.peekFirst();
+        onRemove(victim);
+        return victim;
+    }
+
+    @Override
+    public void clear() {
+        for (FrequencyBucket bucket = lowest; bucket != null; bucket = bucket.next) {
+            bucket.entries.clear();
+        }
+        lowest = null;
+    }
+
+    private void unlink(FrequencyBucket bucket) {
+        if (bucket.prev == null) {
+            lowest = bucket.next;
+        } else {
+            bucket.prev.next = bucket.next;
+        }
+
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+
+        bucket.prev = null;
+        bucket.next = null;
+    }
+
+    static final class FrequencyBucket {
+        private final int frequency;
+        private final AccessOrderDeque entries;
+        private FrequencyBucket prev;
+        private FrequencyBucket next;
+
+        FrequencyBucket(int frequency) {
+            this.frequency = frequency;
+            this.entries = new AccessOrderDeque();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dev.m4trix.framework.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public final class LongCacheRegion extends AbstractCacheRegion<UUID, Long> {
+
+    private final UuidLongMap map;
+
+    LongCacheRegion(String name, CacheService service) {
+        super(name, UUID.class, Long.class, service);
+        this.map = new UuidLongMap();
+    }
+
+    public void put(UUID key, long value, long ttl) {
+        checkKey(key);
+        map.put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value, service.currentTime() + ttl);
+    }
+
+    public void put(UUID key, long value) {
+        checkKey(key);
+        map.put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value, -1);
+    }
+
+    public long getLong(UUID key, long defaultValue) {
+        if (key == null) {
+            return defaultValue;
+        }
+        return map.get(key.getMostSignificantBits(), key.getLeastSignificantBits(), service.currentTime(),
+                defaultValue);
+    }
+
+    @Override
+    public void put(UUID key, Long value, long ttl) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cache value cannot be null");
+        }
+        put(key, value.longValue(), ttl);
+    }
+
+    @Override
+    public void put(UUID key, Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cache value cannot be null");
+        }
+        put(key, value.longValue());
+    }
+
+    @Override
+    public Optional<Long> get(UUID key) {
+        if (!contains(key)) {
+            return Optional.empty();
+        }
+        return Optional.of(getLong(key, 0L));
+    }
+
+    @Override
+    public boolean contains(UUID key) {
+        if (key == null) {
+            return false;
+        }
+        return map.contains(key.getMostSignificantBits(), key.getLeastSignificantBits(), service.currentTime());
+    }
+
+    @Override
+    public void invalidate(UUID key) {
+        if (key != null) {
+            map.remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        }
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    int cleanUp(long now) {
+        return map.sweep(now, SWEEP_BUDGET);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.m4trix.framework.service;
+
+final class LruEvictor implements CacheEvictor {
+
+    private static final int LINKED = 1;
+
+    private final AccessOrderDeque deque = new AccessOrderDeque();
+
+    @Override
+    public void onInsert(CacheEntry entry) {
+        entry.queue = LINKED;
+        deque.addLast(entry);
+    }
+
+    @Override
+    public void onAccess(CacheEntry entry) {
+        if (entry.queue == LINKED) {
+            deque.moveToBack(entry);
+        }
+    }
+
+    @Override
+    public void onRemove(CacheEntry entry) {
+        if (entry.queue == LINKED) {
+            deque.remove(entry);
+            entry.queue = 0;
+        }
+    }
+
+    @Override
+    public CacheEntry selectVictim() {
+        CacheEntry victim = deque.pollFirst();
+        if (victim != null) {
+            victim.queue = 0;
+        }
+        return victim;
+    }
+
+    @Override
+    public void clear() {
+        deque.clear();
+    }
+}
@@ -0,0 +1,105 @@
+package dev.m4trix.framework.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ObjectCacheRegion<K, V> extends AbstractCacheRegion<K, V> {
+
+    private final Map<K, RegionEntry<V>> entries;
+    private Iterator<Map.Entry<K, RegionEntry<V>>> sweeper;
+
+    ObjectCacheRegion(String name, Class<K> keyType, Class<V> valueType, CacheService service) {
+        super(name, keyType, valueType, service);
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void put(K key, V value, long ttl) {
+        checkKey(key);
+        entries.put(key, new RegionEntry<>(value, service.currentTime() + ttl));
+    }
+
+    @Override
+    public void put(K key, V value) {
+        checkKey(key);
+        entries.put(key, new RegionEntry<>(value, -1));
+    }
+
+    @Override
+    public Optional<V> get(K key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        RegionEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (entry.isExpired(service.currentTime())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(entry.value);
+    }
+
+    @Override
+    public boolean contains(K key) {
+        if (key == null) {
+            return false;
+        }
+
+        RegionEntry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired(service.currentTime());
+    }
+
+    @Override
+    public void invalidate(K key) {
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    int cleanUp(long now) {
+        if (sweeper == null || !sweeper.hasNext()) {
+            sweeper = entries.entrySet().iterator();
+        }
+
+        int removed = 0;
+        for (int i = 0; i < SWEEP_BUDGET && sweeper.hasNext(); i++) {
+            Map.Entry<K, RegionEntry<V>> entry = sweeper.next();
+            if (entry.getValue().isExpired(now) && entries.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static final class RegionEntry<V> {
+        private final V value;
+        private final long expireTime;
+
+        RegionEntry(V value, long expireTime) {
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+
+        boolean isExpired(long now) {
+            return expireTime > 0 && now > expireTime;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package dev.m4trix.framework.service;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class OffHeapStore {
+
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private static final int MINIMUM_SHIFT = 8;
+    private static final int MAXIMUM_SHIFT = 20;
+
+    private final long capacity;
+    private final SizeClass[] sizeClasses;
+    private final ReentrantReadWriteLock lock;
+    private long reserved;
+    private long used;
+    private int count;
+    private long generation;
+
+    OffHeapStore(long capacity) {
+        this.capacity = capacity;
+        this.sizeClasses = new SizeClass[MAXIMUM_SHIFT - MINIMUM_SHIFT + 1];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new SizeClass(MINIMUM_SHIFT + i);
+        }
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    OffHeapValue allocate(byte[] data, CacheSerializer<?> serializer) {
+        if (data.length > CHUNK_SIZE) {
+            return null;
+        }
+
+        int shift = Math.max(MINIMUM_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(1, data.length) - 1));
+        SizeClass sizeClass = sizeClasses[shift - MINIMUM_SHIFT];
+
+        lock.writeLock().lock();
+        try {
+            int slot = sizeClass.acquire();
+            if (slot < 0) {
+                return null;
+            }
+
+            ByteBuffer chunk = sizeClass.chunkOf(slot);
+            chunk.put(sizeClass.offsetOf(slot), data);
+            used += 1L << shift;
+            count++;
+            return new OffHeapValue(serializer, shift - MINIMUM_SHIFT, slot, data.length, generation);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Object read(OffHeapValue value) {
+        lock.readLock().lock();
+        try {
+            if (value.released || value.generation != generation) {
+                return null;
+            }
+
+            SizeClass sizeClass = sizeClasses[value.sizeClass];
+            ByteBuffer slice = sizeClass.chunkOf(value.slot)
+                    .slice(sizeClass.offsetOf(value.slot), value.length)
+                    .asReadOnlyBuffer();
+            return value.serializer.deserialize(slice);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void release(OffHeapValue value) {
+        lock.writeLock().lock();
+        try {
+            if (value.released || value.generation != generation) {
+                return;
+            }
+
+            value.released = true;
+            SizeClass sizeClass = sizeClasses[value.sizeClass];
+            sizeClass.free(value.slot);
+            used -= 1L << sizeClass.shift;
+            count--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            for (SizeClass sizeClass : sizeClasses) {
+                sizeClass.reset();
+            }
+            used = 0;
+            count = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    long getUsedBytes() {
+        lock.readLock().lock();
+        try {
+            return used;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long getReservedBytes() {
+        lock.readLock().lock();
+        try {
+            return reserved;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int getCount() {
+        lock.readLock().lock();
+        try {
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private final class SizeClass {
+        private final int shift;
+        private final int slotsPerChunk;
+        private final List<ByteBuffer> chunks;
+        private int[] freeSlots;
+        private int freeCount;
+        private int nextSlot;
+
+        SizeClass(int shift) {
+            this.shift = shift;
+            this.slotsPerChunk = CHUNK_SIZE >>> shift;
+            this.chunks = new ArrayList<>();
+            this.freeSlots = new int[16];
+        }
+
+        int acquire() {
+            if (freeCount > 0) {
+                return freeSlots[--freeCount];
+            }
+
+            if (nextSlot == chunks.size() * slotsPerChunk) {
+                if (reserved + CHUNK_SIZE > capacity) {
+                    return -1;
+                }
+                chunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE));
+                reserved += CHUNK_SIZE;
+            }
+            return nextSlot++;
+        }
+
+        void free(int slot) {
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        void reset() {
+            freeCount = 0;
+            nextSlot = 0;
+        }
+
+        ByteBuffer chunkOf(int slot) {
+            return chunks.get(slot / slotsPerChunk);
+        }
+
+        int offsetOf(int slot) {
+            return (slot % slotsPerChunk) << shift;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dev.m4trix.framework.service;
+
+import java.util.Iterator;
+import java.util.Map;
+
+final class OffHeapTier {
+
+    private static final int SWEEP_BUDGET = 1024;
+
+    private final OffHeapStore store;
+    private final Map<Class<?>, CacheSerializer<?>> serializers;
+    private final int threshold;
+    private final int promoteThreshold;
+    private Iterator<CacheEntry> sweeper;
+
+    OffHeapTier(long capacity, int threshold, int promoteThreshold, Map<Class<?>, CacheSerializer<?>> serializers) {
+        this.store = new OffHeapStore(capacity);
+        this.serializers = serializers;
+        this.threshold = threshold;
+        this.promoteThreshold = promoteThreshold;
+    }
+
+    Object resolve(CacheEntry entry) {
+        Object value = entry.value;
+
+        while (value instanceof OffHeapValue) {
+            OffHeapValue handle = (OffHeapValue) value;
+            Object result = store.read(handle);
+
+            if (result != null) {
+                if (++handle.hits >= promoteThreshold && entry.casValue(handle, result)) {
+                    store.release(handle);
+                }
+                return result;
+            }
+
+            Object current = entry.value;
+            if (current == handle) {
+                return null;
+            }
+            value = current;
+        }
+
+        return value;
+    }
+
+    void release(CacheEntry entry) {
+        Object value = entry.value;
+        if (value instanceof OffHeapValue) {
+            store.release((OffHeapValue) value);
+        }
+    }
+
+    void clear() {
+        store.clear();
+        sweeper = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    void admit(CacheEntry entry) {
+        Object value = entry.value;
+        if (value == null) {
+            return;
+        }
+
+        CacheSerializer<Object> serializer = (CacheSerializer<Object>) serializers.get(value.getClass());
+        if (serializer == null) {
+            entry.serializedSize = 0;
+            return;
+        }
+
+        int estimate = serializer.estimateSize(value);
+        if (estimate < 0) {
+            return;
+        }
+        if (estimate < threshold) {
+            entry.serializedSize = Math.max(1, estimate);
+            return;
+        }
+        demote(entry, value);
+    }
+
+    void sweep(Map<String, CacheEntry> entries) {
+        if (sweeper == null || !sweeper.hasNext()) {
+            sweeper = entries.values().iterator();
+        }
+
+        for (int i = 0; i < SWEEP_BUDGET && sweeper.hasNext(); i++) {
+            CacheEntry entry = sweeper.next();
+            Object value = entry.value;
+
+            if (value instanceof OffHeapValue) {
+                ((OffHeapValue) value).hits = 0;
+            } else if (entry.accesses == 0 && entry.serializedSize != 0) {
+                OffHeapValue handle = demote(entry, value);
+                if (handle != null && entries.get(entry.key) != entry && entry.casValue(handle, value)) {
+                    store.release(handle);
+                }
+            }
+            entry.accesses = 0;
+        }
+    }
+
+    long getUsedBytes() {
+        return store.getUsedBytes();
+    }
+
+    long getReservedBytes() {
+        return store.getReservedBytes();
+    }
+
+    int getCount() {
+        return store.getCount();
+    }
+
+    @SuppressWarnings("unchecked")
+    private OffHeapValue demote(CacheEntry entry, Object value) {
+        if (value == null || (entry.serializedSize > 0 && entry.serializedSize < threshold)) {
+            return null;
+        }
+
+        CacheSerializer<Object> serializer = (CacheSerializer<Object>) serializers.get(value.getClass());
+        if (serializer == null) {
+            entry.serializedSize = 0;
+            return null;
+        }
+
+        byte[] data = serializer.serialize(value);
+        entry.serializedSize = Math.max(1, data.length);
+        if (data.length < threshold) {
+            return null;
+        }
+
+        OffHeapValue handle = store.allocate(data, serializer);
+        if (handle == null) {
+            return null;
+        }
+        if (!entry.casValue(value, handle)) {
+            store.release(handle);
+            return null;
+        }
+        return handle;
+    }
+}
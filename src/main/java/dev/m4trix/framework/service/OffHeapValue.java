@@ -0,0 +1,20 @@
+package dev.m4trix.framework.service;
+
+final class OffHeapValue {
+
+    final CacheSerializer<?> serializer;
+    final int sizeClass;
+    final int slot;
+    final int length;
+    final long generation;
+    boolean released;
+    int hits;
+
+    OffHeapValue(CacheSerializer<?> serializer, int sizeClass, int slot, int length, long generation) {
+        this.serializer = serializer;
+        this.sizeClass = sizeClass;
+        this.slot = slot;
+        this.length = length;
+        this.generation = generation;
+    }
+}
@@ -1,5 +1,8 @@
 package dev.m4trix.framework.service;
 
+import java.util.Collection;
+import java.util.Collections;
+
 public interface Service {
 
     void start();
@@ -13,4 +16,12 @@ public interface Service {
     default boolean isRunning() {
         return false;
     }
-}
\ No newline at end of file
+
+    default Collection<Class<? extends Service>> getDependencies() {
+        return Collections.emptyList();
+    }
+
+    default boolean requiresMainThread() {
+        return true;
+    }
+}
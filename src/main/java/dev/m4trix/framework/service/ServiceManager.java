@@ -2,19 +2,46 @@ package dev.m4trix.framework.service;
 
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 public final class ServiceManager {
 
+    private static final int MAXIMUM_WORKERS = 4;
+
     private final JavaPlugin plugin;
     private final Map<Class<? extends Service>, Service> services;
+    private final List<Service> pending;
+    private final List<Service> startOrder;
+    private final Map<Service, Duration> startupTimes;
+    private boolean started;
 
     public ServiceManager(JavaPlugin plugin) {
         this.plugin = plugin;
         this.services = new LinkedHashMap<>();
+        this.pending = new ArrayList<>();
+        this.startOrder = new CopyOnWriteArrayList<>();
+        this.startupTimes = new ConcurrentHashMap<>();
     }
 
     public <T extends Service> boolean register(T service) {
@@ -30,17 +57,92 @@ public final class ServiceManager {
             return false;
         }
 
-        try {
-            service.start();
+        if (!started) {
             services.put(serviceClass, service);
+            pending.add(service);
             plugin.getLogger().info("Service registered: " + service.getName());
             return true;
+        }
+
+        for (Class<? extends Service> dependency : dependenciesOf(service)) {
+            Service resolved = find(dependency);
+            if (resolved == null) {
+                plugin.getLogger().warning("Cannot start service " + service.getName() + ": missing dependency "
+                        + dependency.getSimpleName());
+                return false;
+            }
+        }
+
+        try {
+            start(service);
+            services.put(serviceClass, service);
+            plugin.getLogger().info("Service started: " + describe(service));
+            return true;
         } catch (Throwable t) {
             plugin.getLogger().log(Level.SEVERE, "Failed to start service: " + service.getName(), t);
             return false;
         }
     }
 
+    public void startAll() {
+        if (started) {
+            return;
+        }
+        started = true;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Service> batch = new ArrayList<>(pending);
+        pending.clear();
+
+        Map<Service, List<Service>> graph;
+        List<Service> order;
+        try {
+            graph = resolve(batch);
+            order = sort(batch, graph);
+        } catch (IllegalStateException e) {
+            for (Service service : batch) {
+                services.remove(service.getClass());
+            }
+            started = false;
+            throw e;
+        }
+
+        long begin = System.nanoTime();
+        Map<Service, Throwable> failures = run(order, graph);
+        long elapsed = System.nanoTime() - begin;
+
+        long work = 0L;
+        int count = 0;
+        for (Service service : startOrder) {
+            Duration time = startupTimes.get(service);
+            if (time != null && batch.contains(service)) {
+                work += time.toNanos();
+                count++;
+                plugin.getLogger().info("Service started: " + describe(service));
+            }
+        }
+
+        for (Service service : order) {
+            if (startOrder.contains(service)) {
+                continue;
+            }
+
+            services.remove(service.getClass());
+            Throwable failure = failures.get(service);
+            if (failure != null) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to start service: " + service.getName(), failure);
+            } else {
+                plugin.getLogger().warning("Skipped service " + service.getName() + ": a dependency failed to start");
+            }
+        }
+
+        plugin.getLogger().info(String.format("Started %d/%d services in %.2fms (%.2fms of start work)",
+                count, order.size(), elapsed / 1_000_000.0,
+                work / 1_000_000.0));
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Service> T get(Class<T> serviceClass) {
         if (serviceClass == null) {
@@ -62,6 +164,9 @@ public final class ServiceManager {
         try {
             service.stop();
             services.remove(serviceClass);
+            pending.remove(service);
+            startOrder.remove(service);
+            startupTimes.remove(service);
             plugin.getLogger().info("Service stopped: " + service.getName());
             return true;
         } catch (Throwable t) {
@@ -71,7 +176,10 @@ public final class ServiceManager {
     }
 
     public void stopAll() {
-        for (Service service : services.values()) {
+        List<Service> running = new ArrayList<>(startOrder);
+        Collections.reverse(running);
+
+        for (Service service : running) {
             try {
                 service.stop();
                 plugin.getLogger().info("Service stopped: " + service.getName());
@@ -80,6 +188,10 @@ public final class ServiceManager {
             }
         }
         services.clear();
+        pending.clear();
+        startOrder.clear();
+        startupTimes.clear();
+        started = false;
     }
 
     public boolean isRegistered(Class<? extends Service> serviceClass) {
@@ -90,7 +202,170 @@ public final class ServiceManager {
         return Collections.unmodifiableMap(services);
     }
 
+    public Map<Class<? extends Service>, Duration> getStartupTimes() {
+        Map<Class<? extends Service>, Duration> times = new LinkedHashMap<>();
+        for (Service service : startOrder) {
+            Duration time = startupTimes.get(service);
+            if (time != null) {
+                times.put(service.getClass(), time);
+            }
+        }
+        return Collections.unmodifiableMap(times);
+    }
+
     public int count() {
         return services.size();
     }
-}
\ No newline at end of file
+
+    private Map<Service, List<Service>> resolve(List<Service> batch) {
+        Map<Service, List<Service>> graph = new IdentityHashMap<>();
+        for (Service service : batch) {
+            List<Service> edges = new ArrayList<>();
+            for (Class<? extends Service> dependency : dependenciesOf(service)) {
+                Service resolved = find(dependency);
+                if (resolved == null) {
+                    throw new IllegalStateException("Service " + service.getName() + " depends on "
+                            + dependency.getName() + ", which is not registered");
+                }
+                if (batch.contains(resolved)) {
+                    edges.add(resolved);
+                }
+            }
+            graph.put(service, edges);
+        }
+        return graph;
+    }
+
+    private static List<Service> sort(List<Service> batch, Map<Service, List<Service>> graph) {
+        List<Service> order = new ArrayList<>(batch.size());
+        Map<Service, Boolean> visited = new IdentityHashMap<>();
+        Deque<Service> path = new ArrayDeque<>();
+
+        for (Service service : batch) {
+            visit(service, graph, visited, path, order);
+        }
+        return order;
+    }
+
+    private static void visit(Service service, Map<Service, List<Service>> graph, Map<Service, Boolean> visited,
+                              Deque<Service> path, List<Service> order) {
+        Boolean done = visited.get(service);
+        if (done != null) {
+            if (!done) {
+                StringBuilder cycle = new StringBuilder();
+                boolean inCycle = false;
+                for (Service step : path) {
+                    inCycle |= step == service;
+                    if (inCycle) {
+                        cycle.append(step.getName()).append(" -> ");
+                    }
+                }
+                throw new IllegalStateException("Service dependency cycle: " + cycle + service.getName());
+            }
+            return;
+        }
+
+        visited.put(service, false);
+        path.addLast(service);
+        for (Service dependency : graph.get(service)) {
+            visit(dependency, graph, visited, path, order);
+        }
+        path.removeLast();
+        visited.put(service, true);
+        order.add(service);
+    }
+
+    private Map<Service, Throwable> run(List<Service> order, Map<Service, List<Service>> graph) {
+        int parallel = 0;
+        for (Service service : order) {
+            if (!service.requiresMainThread()) {
+                parallel++;
+            }
+        }
+
+        ExecutorService workers = parallel > 0 ? newWorkers(parallel) : null;
+        BlockingQueue<Runnable> mainThread = new LinkedBlockingQueue<>();
+        Executor mainExecutor = mainThread::add;
+        Map<Service, Throwable> failures = new ConcurrentHashMap<>();
+        Map<Service, CompletableFuture<Void>> futures = new IdentityHashMap<>();
+
+        try {
+            for (Service service : order) {
+                List<Service> dependencies = graph.get(service);
+                CompletableFuture<?>[] awaited = new CompletableFuture<?>[dependencies.size()];
+                for (int i = 0; i < awaited.length; i++) {
+                    awaited[i] = futures.get(dependencies.get(i));
+                }
+
+                Executor executor = service.requiresMainThread() ? mainExecutor : workers;
+                futures.put(service, CompletableFuture.allOf(awaited).thenRunAsync(() -> {
+                    try {
+                        start(service);
+                    } catch (Throwable t) {
+                        failures.put(service, t);
+                        throw new CompletionException(t);
+                    }
+                }, executor));
+            }
+
+            CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]));
+            all.whenComplete((result, error) -> mainThread.add(() -> { }));
+            while (!all.isDone()) {
+                mainThread.take().run();
+            }
+            return failures;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting services", e);
+        } finally {
+            if (workers != null) {
+                workers.shutdown();
+            }
+        }
+    }
+
+    private void start(Service service) {
+        long begin = System.nanoTime();
+        service.start();
+        startupTimes.put(service, Duration.ofNanos(System.nanoTime() - begin));
+        startOrder.add(service);
+    }
+
+    private ExecutorService newWorkers(int services) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.min(services, MAXIMUM_WORKERS), runnable -> {
+            Thread thread = new Thread(runnable, plugin.getName() + "-ServiceStart-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private Service find(Class<? extends Service> type) {
+        Service exact = services.get(type);
+        if (exact != null) {
+            return exact;
+        }
+        for (Service service : services.values()) {
+            if (type.isInstance(service)) {
+                return service;
+            }
+        }
+        return null;
+    }
+
+    private static Set<Class<? extends Service>> dependenciesOf(Service service) {
+        Set<Class<? extends Service>> dependencies = new LinkedHashSet<>();
+        DependsOn annotation = service.getClass().getAnnotation(DependsOn.class);
+        if (annotation != null) {
+            Collections.addAll(dependencies, annotation.value());
+        }
+        dependencies.addAll(service.getDependencies());
+        return dependencies;
+    }
+
+    private String describe(Service service) {
+        Duration time = startupTimes.get(service);
+        return time == null ? service.getName()
+                : String.format("%s (%.2fms)", service.getName(), time.toNanos() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.m4trix.framework.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+final class StatsCounter {
+
+    private final boolean enabled;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder loadSuccessCount;
+    private final LongAdder loadFailureCount;
+    private final LongAdder totalLoadTime;
+    private final LongAdder evictionCount;
+    private final LongAdder evictionWeight;
+    private final LongAdder expiredCount;
+
+    StatsCounter(boolean enabled) {
+        this.enabled = enabled;
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.loadSuccessCount = new LongAdder();
+        this.loadFailureCount = new LongAdder();
+        this.totalLoadTime = new LongAdder();
+        this.evictionCount = new LongAdder();
+        this.evictionWeight = new LongAdder();
+        this.expiredCount = new LongAdder();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void recordHit() {
+        if (enabled) {
+            hitCount.increment();
+        }
+    }
+
+    void recordMiss() {
+        if (enabled) {
+            missCount.increment();
+        }
+    }
+
+    void recordLoadSuccess(long loadTime) {
+        if (enabled) {
+            loadSuccessCount.increment();
+            totalLoadTime.add(loadTime);
+        }
+    }
+
+    void recordLoadFailure(long loadTime) {
+        if (enabled) {
+            loadFailureCount.increment();
+            totalLoadTime.add(loadTime);
+        }
+    }
+
+    void recordEviction(int weight) {
+        if (enabled) {
+            evictionCount.increment();
+            evictionWeight.add(weight);
+        }
+    }
+
+    void recordExpiration(int count) {
+        if (enabled && count > 0) {
+            expiredCount.add(count);
+        }
+    }
+
+    CacheStats snapshot() {
+        if (!enabled) {
+            return CacheStats.empty();
+        }
+
+        return new CacheStats(
+                hitCount.sum(),
+                missCount.sum(),
+                loadSuccessCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadTime.sum(),
+                evictionCount.sum(),
+                evictionWeight.sum(),
+                expiredCount.sum()
+        );
+    }
+
+    void reset() {
+        hitCount.reset();
+        missCount.reset();
+        loadSuccessCount.reset();
+        loadFailureCount.reset();
+        totalLoadTime.reset();
+        evictionCount.reset();
+        evictionWeight.reset();
+        expiredCount.reset();
+    }
+}
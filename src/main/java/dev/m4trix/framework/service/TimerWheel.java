@@ -0,0 +1,124 @@
+package dev.m4trix.framework.service;
+
+import java.util.function.Consumer;
+
+final class TimerWheel {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+        1L << 10,
+        1L << 16,
+        1L << 22,
+        1L << 27,
+        1L << 29,
+        1L << 29
+    };
+    private static final int[] SHIFT = {10, 16, 22, 27, 29, 29};
+
+    private final CacheEntry[][] wheel;
+    private long time;
+
+    TimerWheel(long now) {
+        this.time = now;
+        this.wheel = new CacheEntry[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new CacheEntry[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                wheel[i][j] = CacheEntry.sentinel();
+            }
+        }
+    }
+
+    void advance(long now, Consumer<CacheEntry> expirer) {
+        long previous = time;
+        time = now;
+
+        for (int i = 0; i < SHIFT.length - 1; i++) {
+            long previousTicks = previous >>> SHIFT[i];
+            long currentTicks = now >>> SHIFT[i];
+            if (currentTicks - previousTicks <= 0L) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks, expirer);
+        }
+    }
+
+    void schedule(CacheEntry entry) {
+        CacheEntry sentinel = findBucket(entry.expireTime);
+        CacheEntry last = sentinel.wheelPrev;
+
+        entry.wheelPrev = last;
+        entry.wheelNext = sentinel;
+        last.wheelNext = entry;
+        sentinel.wheelPrev = entry;
+    }
+
+    void deschedule(CacheEntry entry) {
+        if (entry.wheelNext == null) {
+            return;
+        }
+
+        entry.wheelNext.wheelPrev = entry.wheelPrev;
+        entry.wheelPrev.wheelNext = entry.wheelNext;
+        entry.wheelNext = null;
+        entry.wheelPrev = null;
+    }
+
+    void clear() {
+        for (CacheEntry[] buckets : wheel) {
+            for (CacheEntry sentinel : buckets) {
+                CacheEntry entry = sentinel.wheelNext;
+                while (entry != sentinel) {
+                    CacheEntry next = entry.wheelNext;
+                    entry.wheelPrev = null;
+                    entry.wheelNext = null;
+                    entry = next;
+                }
+                sentinel.wheelPrev = sentinel;
+                sentinel.wheelNext = sentinel;
+            }
+        }
+    }
+
+    private void expire(int level, long previousTicks, long currentTicks, Consumer<CacheEntry> expirer) {
+        CacheEntry[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(1 + currentTicks - previousTicks, buckets.length);
+        int start = (int) (previousTicks & mask);
+        int end = start + steps;
+
+        for (int i = start; i < end; i++) {
+            CacheEntry sentinel = buckets[i & mask];
+            CacheEntry entry = sentinel.wheelNext;
+            sentinel.wheelPrev = sentinel;
+            sentinel.wheelNext = sentinel;
+
+            while (entry != sentinel) {
+                CacheEntry next = entry.wheelNext;
+                entry.wheelPrev = null;
+                entry.wheelNext = null;
+
+                if (entry.expireTime - time > 0L) {
+                    schedule(entry);
+                } else {
+                    expirer.accept(entry);
+                }
+                entry = next;
+            }
+        }
+    }
+
+    private CacheEntry findBucket(long expireTime) {
+        long duration = expireTime - time;
+        int length = wheel.length - 1;
+
+        for (int i = 0; i < length; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = expireTime >>> SHIFT[i];
+                int index = (int) (ticks & (wheel[i].length - 1));
+                return wheel[i][index];
+            }
+        }
+        return wheel[length][0];
+    }
+}
@@ -0,0 +1,123 @@
+package dev.m4trix.framework.service;
+
+final class TinyLfuEvictor implements CacheEvictor {
+
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque window;
+    private final AccessOrderDeque probation;
+    private final AccessOrderDeque protectedQueue;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private long windowWeight;
+    private long protectedWeight;
+
+    TinyLfuEvictor(long maximum, long expectedEntries) {
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.window = new AccessOrderDeque();
+        this.probation = new AccessOrderDeque();
+        this.protectedQueue = new AccessOrderDeque();
+        this.windowMaximum = Math.max(1, maximum / 100);
+        this.protectedMaximum = (maximum - windowMaximum) * 80 / 100;
+    }
+
+    @Override
+    public void onInsert(CacheEntry entry) {
+        sketch.increment(entry.key);
+
+        entry.queue = WINDOW;
+        window.addLast(entry);
+        windowWeight += entry.weight;
+
+        while (windowWeight > windowMaximum && !window.isEmpty()) {
+            CacheEntry candidate = window.pollFirst();
+            windowWeight -= candidate.weight;
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+        }
+    }
+
+    @Override
+    public void onAccess(CacheEntry entry) {
+        switch (entry.queue) {
+            case WINDOW:
+                sketch.increment(entry.key);
+                window.moveToBack(entry);
+                break;
+            case PROBATION:
+                sketch.increment(entry.key);
+                promote(entry);
+                break;
+            case PROTECTED:
+                sketch.increment(entry.key);
+                protectedQueue.moveToBack(entry);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onRemove(CacheEntry entry) {
+        switch (entry.queue) {
+            case WINDOW:
+                window.remove(entry);
+                windowWeight -= entry.weight;
+                break;
+            case PROBATION:
+                probation.remove(entry);
+                break;
+            case PROTECTED:
+                protectedQueue.remove(entry);
+                protectedWeight -= entry.weight;
+                break;
+            default:
+                return;
+        }
+        entry.queue = 0;
+    }
+
+    @Override
+    public CacheEntry selectVictim() {
+        CacheEntry victim = probation.peekFirst();
+        CacheEntry candidate = probation.peekLast();
+
+        if (victim == null) {
+            victim = !protectedQueue.isEmpty() ? protectedQueue.peekFirst() : window.peekFirst();
+        } else if (victim != candidate && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+            victim = candidate;
+        }
+
+        if (victim != null) {
+            onRemove(victim);
+        }
+        return victim;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+        windowWeight = 0;
+        protectedWeight = 0;
+    }
+
+    private void promote(CacheEntry entry) {
+        probation.remove(entry);
+        entry.queue = PROTECTED;
+        protectedQueue.addLast(entry);
+        protectedWeight += entry.weight;
+
+        while (protectedWeight > protectedMaximum && !protectedQueue.isEmpty()) {
+            CacheEntry demoted = protectedQueue.pollFirst();
+            protectedWeight -= demoted.weight;
+            demoted.queue = PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package dev.m4trix.framework.service;
+
+import java.util.concurrent.locks.StampedLock;
+
+final class UuidLongMap {
+
+    private static final int STRIDE = 4;
+    private static final int MSB = 0;
+    private static final int LSB = 1;
+    private static final int VALUE = 2;
+    private static final int EXPIRE = 3;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final StampedLock lock;
+    private long[] table;
+    private int size;
+    private int cursor;
+
+    private boolean zeroPresent;
+    private long zeroValue;
+    private long zeroExpire;
+
+    UuidLongMap() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    UuidLongMap(int expectedSize) {
+        this.lock = new StampedLock();
+        this.table = new long[tableSizeFor(expectedSize) * STRIDE];
+    }
+
+    long get(long msb, long lsb, long now, long missing) {
+        long stamp = lock.tryOptimisticRead();
+        long result = readValue(msb, lsb, now, missing);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = readValue(msb, lsb, now, missing);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    long getExpireTime(long msb, long lsb, long missing) {
+        long stamp = lock.tryOptimisticRead();
+        long result = readExpire(msb, lsb, missing);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = readExpire(msb, lsb, missing);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    boolean contains(long msb, long lsb, long now) {
+        long stamp = lock.tryOptimisticRead();
+        boolean result = readContains(msb, lsb, now);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = readContains(msb, lsb, now);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    void put(long msb, long lsb, long value, long expireTime) {
+        long stamp = lock.writeLock();
+        try {
+            if (msb == 0L && lsb == 0L) {
+                if (!zeroPresent) {
+                    zeroPresent = true;
+                    size++;
+                }
+                zeroValue = value;
+                zeroExpire = expireTime;
+                return;
+            }
+
+            long[] t = table;
+            int mask = t.length / STRIDE - 1;
+            int index = hash(msb, lsb) & mask;
+
+            while (true) {
+                int base = index * STRIDE;
+                if (t[base + MSB] == msb && t[base + LSB] == lsb) {
+                    t[base + VALUE] = value;
+                    t[base + EXPIRE] = expireTime;
+                    return;
+                }
+                if (t[base + MSB] == 0L && t[base + LSB] == 0L) {
+                    t[base + MSB] = msb;
+                    t[base + LSB] = lsb;
+                    t[base + VALUE] = value;
+                    t[base + EXPIRE] = expireTime;
+                    if (++size > (mask + 1) / 2) {
+                        resize();
+                    }
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean remove(long msb, long lsb) {
+        long stamp = lock.writeLock();
+        try {
+            if (msb == 0L && lsb == 0L) {
+                return removeZero();
+            }
+
+            int index = indexOf(table, msb, lsb);
+            if (index < 0) {
+                return false;
+            }
+            removeAt(index);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean removeIfExpireTime(long msb, long lsb, long expireTime) {
+        long stamp = lock.writeLock();
+        try {
+            if (msb == 0L && lsb == 0L) {
+                return zeroPresent && zeroExpire == expireTime && removeZero();
+            }
+
+            int index = indexOf(table, msb, lsb);
+            if (index < 0 || table[index * STRIDE + EXPIRE] != expireTime) {
+                return false;
+            }
+            removeAt(index);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int sweep(long now, int budget) {
+        long stamp = lock.writeLock();
+        try {
+            int removed = 0;
+            if (zeroPresent && isExpired(zeroExpire, now)) {
+                removeZero();
+                removed++;
+            }
+
+            int capacity = table.length / STRIDE;
+            int steps = Math.min(budget, capacity);
+            int index = cursor % capacity;
+
+            for (int i = 0; i < steps; i++) {
+                int base = index * STRIDE;
+                boolean occupied = table[base + MSB] != 0L || table[base + LSB] != 0L;
+
+                if (occupied && isExpired(table[base + EXPIRE], now)) {
+                    removeAt(index);
+                    removed++;
+                } else {
+                    index = (index + 1) % capacity;
+                }
+            }
+
+            cursor = index;
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.tryOptimisticRead();
+        int result = size;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            table = new long[MINIMUM_CAPACITY * STRIDE];
+            size = 0;
+            cursor = 0;
+            zeroPresent = false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private long readValue(long msb, long lsb, long now, long missing) {
+        if (msb == 0L && lsb == 0L) {
+            return zeroPresent && !isExpired(zeroExpire, now) ? zeroValue : missing;
+        }
+
+        long[] t = table;
+        int index = indexOf(t, msb, lsb);
+        if (index < 0) {
+            return missing;
+        }
+
+        int base = index * STRIDE;
+        return isExpired(t[base + EXPIRE], now) ? missing : t[base + VALUE];
+    }
+
+    private long readExpire(long msb, long lsb, long missing) {
+        if (msb == 0L && lsb == 0L) {
+            return zeroPresent ? zeroExpire : missing;
+        }
+
+        long[] t = table;
+        int index = indexOf(t, msb, lsb);
+        return index < 0 ? missing : t[index * STRIDE + EXPIRE];
+    }
+
+    private boolean readContains(long msb, long lsb, long now) {
+        if (msb == 0L && lsb == 0L) {
+            return zeroPresent && !isExpired(zeroExpire, now);
+        }
+
+        long[] t = table;
+        int index = indexOf(t, msb, lsb);
+        return index >= 0 && !isExpired(t[index * STRIDE + EXPIRE], now);
+    }
+
+    private boolean removeZero() {
+        if (!zeroPresent) {
+            return false;
+        }
+        zeroPresent = false;
+        size--;
+        return true;
+    }
+
+    private void removeAt(int index) {
+        long[] t = table;
+        int mask = t.length / STRIDE - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+
+        while (true) {
+            int base = next * STRIDE;
+            long msb = t[base + MSB];
+            long lsb = t[base + LSB];
+            if (msb == 0L && lsb == 0L) {
+                break;
+            }
+
+            int ideal = hash(msb, lsb) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                System.arraycopy(t, base, t, hole * STRIDE, STRIDE);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        int base = hole * STRIDE;
+        t[base + MSB] = 0L;
+        t[base + LSB] = 0L;
+        t[base + VALUE] = 0L;
+        t[base + EXPIRE] = 0L;
+        size--;
+    }
+
+    private void resize() {
+        long[] old = table;
+        long[] t = new long[old.length * 2];
+        int mask = t.length / STRIDE - 1;
+
+        for (int base = 0; base < old.length; base += STRIDE) {
+            long msb = old[base + MSB];
+            long lsb = old[base + LSB];
+            if (msb == 0L && lsb == 0L) {
+                continue;
+            }
+
+            int index = hash(msb, lsb) & mask;
+            while (t[index * STRIDE + MSB] != 0L || t[index * STRIDE + LSB] != 0L) {
+                index = (index + 1) & mask;
+            }
+            System.arraycopy(old, base, t, index * STRIDE, STRIDE);
+        }
+        table = t;
+    }
+
+    private static int indexOf(long[] t, long msb, long lsb) {
+        int mask = t.length / STRIDE - 1;
+        int index = hash(msb, lsb) & mask;
+
+        for (int probes = 0; probes <= mask; probes++) {
+            int base = index * STRIDE;
+            long keyMsb = t[base + MSB];
+            long keyLsb = t[base + LSB];
+
+            if (keyMsb == msb && keyLsb == lsb) {
+                return index;
+            }
+            if (keyMsb == 0L && keyLsb == 0L) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static boolean isExpired(long expireTime, long now) {
+        return expireTime > 0 && now > expireTime;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 32;
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 29));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Math.max(MINIMUM_CAPACITY, expectedSize * 2);
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
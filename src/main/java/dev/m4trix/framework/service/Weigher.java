@@ -0,0 +1,7 @@
+package dev.m4trix.framework.service;
+
+@FunctionalInterface
+public interface Weigher {
+
+    int weigh(String key, Object value);
+}
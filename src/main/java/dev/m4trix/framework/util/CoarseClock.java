@@ -0,0 +1,32 @@
+package dev.m4trix.framework.util;
+
+public final class CoarseClock implements FrameworkClock {
+
+    private final FrameworkClock source;
+    private volatile long now;
+
+    CoarseClock(FrameworkClock source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Clock source cannot be null");
+        }
+        this.source = source;
+        this.now = source.millis();
+    }
+
+    @Override
+    public long millis() {
+        return now;
+    }
+
+    public long update() {
+        long time = source.millis();
+        if (time > now) {
+            this.now = time;
+        }
+        return now;
+    }
+
+    public FrameworkClock getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,29 @@
+package dev.m4trix.framework.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class FakeClock implements FrameworkClock {
+
+    private final AtomicLong now;
+
+    FakeClock(long start) {
+        this.now = new AtomicLong(start);
+    }
+
+    @Override
+    public long millis() {
+        return now.get();
+    }
+
+    public long advance(Duration duration) {
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration cannot be null or negative");
+        }
+        return now.addAndGet(duration.toMillis());
+    }
+
+    public void set(long millis) {
+        now.set(millis);
+    }
+}
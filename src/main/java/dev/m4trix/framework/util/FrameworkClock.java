@@ -0,0 +1,30 @@
+package dev.m4trix.framework.util;
+
+public interface FrameworkClock {
+
+    long millis();
+
+    default long toWallTime(long millis) {
+        return millis - millis() + System.currentTimeMillis();
+    }
+
+    default long fromWallTime(long wallTime) {
+        return wallTime - System.currentTimeMillis() + millis();
+    }
+
+    static FrameworkClock system() {
+        return SystemClock.INSTANCE;
+    }
+
+    static FrameworkClock monotonic() {
+        return MonotonicClock.INSTANCE;
+    }
+
+    static CoarseClock coarse(FrameworkClock source) {
+        return new CoarseClock(source);
+    }
+
+    static FakeClock fake(long start) {
+        return new FakeClock(start);
+    }
+}
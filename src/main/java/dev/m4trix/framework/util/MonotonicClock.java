@@ -0,0 +1,19 @@
+package dev.m4trix.framework.util;
+
+final class MonotonicClock implements FrameworkClock {
+
+    static final MonotonicClock INSTANCE = new MonotonicClock();
+
+    private final long originMillis;
+    private final long originNanos;
+
+    private MonotonicClock() {
+        this.originMillis = System.currentTimeMillis();
+        this.originNanos = System.nanoTime();
+    }
+
+    @Override
+    public long millis() {
+        return originMillis + (System.nanoTime() - originNanos) / 1_000_000L;
+    }
+}
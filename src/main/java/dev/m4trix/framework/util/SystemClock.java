@@ -0,0 +1,24 @@
+package dev.m4trix.framework.util;
+
+final class SystemClock implements FrameworkClock {
+
+    static final SystemClock INSTANCE = new SystemClock();
+
+    private SystemClock() {
+    }
+
+    @Override
+    public long millis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long toWallTime(long millis) {
+        return millis;
+    }
+
+    @Override
+    public long fromWallTime(long wallTime) {
+        return wallTime;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.m4trix.framework.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveExactBuckets() {
+        for (int value = 0; value < LatencyHistogram.SUB_BUCKETS; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.highestValueAt(value));
+        }
+    }
+
+    @Test
+    void bucketsAreContiguousAndBoundValues() {
+        int last = LatencyHistogram.BUCKETS - 1;
+        for (int index = 1; index < last; index++) {
+            long low = LatencyHistogram.highestValueAt(index - 1) + 1;
+            long high = LatencyHistogram.highestValueAt(index);
+            assertTrue(low <= high, "empty bucket " + index);
+            assertEquals(index, LatencyHistogram.indexOf(low));
+            assertEquals(index, LatencyHistogram.indexOf(high));
+        }
+    }
+
+    @Test
+    void relativeErrorStaysWithinOneSubBucket() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (24 + random.nextInt(40));
+            long high = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+            assertTrue(high >= value, value + " above its bucket");
+            assertTrue(high - value <= value / LatencyHistogram.SUB_BUCKETS, value + " bucket too wide");
+        }
+    }
+
+    @Test
+    void hugeValuesShareTheLastBucket() {
+        int last = LatencyHistogram.BUCKETS - 1;
+        assertEquals(last, LatencyHistogram.indexOf(1L << 41));
+        assertEquals(last, LatencyHistogram.indexOf(Long.MAX_VALUE));
+        assertTrue(LatencyHistogram.indexOf(1L << 40) < last);
+    }
+
+    @Test
+    void snapshotReportsCountsAndPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            histogram.record(nanos * 1_000L, nanos % 100 == 0);
+        }
+        histogram.record(-5L, false);
+
+        CommandProfile profile = histogram.snapshot();
+        assertEquals("test", profile.getName());
+        assertEquals(1_001L, profile.getCount());
+        assertEquals(10L, profile.getErrorCount());
+        assertEquals(1_000_000L, profile.getMaxNanos());
+        assertEquals(500_500_000L, profile.getTotalNanos());
+        assertEquals(0L, profile.getPercentileNanos(0.0));
+        assertEquals(1_000_000L, profile.getPercentileNanos(100.0));
+
+        long median = profile.getPercentileNanos(50.0);
+        assertTrue(median >= 500_000L && median <= 500_000L + 500_000L / LatencyHistogram.SUB_BUCKETS);
+        assertThrows(IllegalArgumentException.class, () -> profile.getPercentileNanos(101.0));
+    }
+
+    @Test
+    void emptySnapshotReportsZero() {
+        CommandProfile profile = new LatencyHistogram("empty").snapshot();
+        assertEquals(0L, profile.getCount());
+        assertEquals(0L, profile.getPercentileNanos(99.0));
+    }
+}
@@ -0,0 +1,61 @@
+package dev.m4trix.framework.command.argument;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DurationArgumentTest {
+
+    private static final long MAXIMUM_MILLIS = 1000L * 60 * 60 * 24 * 365 * 100;
+
+    private final DurationArgument argument = new DurationArgument();
+
+    @Test
+    void parsesEveryUnit() {
+        assertEquals(250L, DurationArgument.parseMillis("250ms"));
+        assertEquals(30_000L, DurationArgument.parseMillis("30s"));
+        assertEquals(300_000L, DurationArgument.parseMillis("5m"));
+        assertEquals(7_200_000L, DurationArgument.parseMillis("2H"));
+        assertEquals(86_400_000L, DurationArgument.parseMillis("1d"));
+        assertEquals(604_800_000L, DurationArgument.parseMillis("1w"));
+    }
+
+    @Test
+    void sumsCompoundDurations() {
+        assertEquals(Duration.ofHours(1).plusMinutes(30).plusSeconds(15), argument.parse(null, "1h30m15s"));
+        assertEquals(Duration.ofMinutes(1).plusMillis(5), argument.parse(null, "1m5ms"));
+    }
+
+    @Test
+    void treatsTrailingNumberAsSeconds() {
+        assertEquals(Duration.ofSeconds(45), argument.parse(null, "45"));
+        assertEquals(Duration.ofMinutes(1).plusSeconds(10), argument.parse(null, "1m10"));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertNull(argument.parse(null, ""));
+        assertNull(argument.parse(null, "m"));
+        assertNull(argument.parse(null, "5x"));
+        assertNull(argument.parse(null, "-5s"));
+        assertNull(argument.parse(null, "1h h"));
+    }
+
+    @Test
+    void acceptsTheMaximum() {
+        assertEquals(MAXIMUM_MILLIS, DurationArgument.parseMillis(MAXIMUM_MILLIS + "ms"));
+        assertEquals(MAXIMUM_MILLIS, DurationArgument.parseMillis(MAXIMUM_MILLIS / 1000 + "s"));
+    }
+
+    @Test
+    void rejectsOverflow() {
+        assertEquals(-1L, DurationArgument.parseMillis((MAXIMUM_MILLIS + 1) + "ms"));
+        assertEquals(-1L, DurationArgument.parseMillis("99999999999999999999999s"));
+        assertEquals(-1L, DurationArgument.parseMillis("5000000w"));
+        assertEquals(-1L, DurationArgument.parseMillis("5000w5000w5000w"));
+        assertEquals(-1L, DurationArgument.parseMillis(MAXIMUM_MILLIS + "ms1"));
+    }
+}
@@ -0,0 +1,62 @@
+package dev.m4trix.framework.command.argument;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntegerArgumentTest {
+
+    @Test
+    void parsesSignedValues() {
+        IntegerArgument argument = new IntegerArgument(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(42, argument.parse(null, "42"));
+        assertEquals(42, argument.parse(null, "+42"));
+        assertEquals(-42, argument.parse(null, "-42"));
+        assertEquals(0, argument.parse(null, "-0"));
+    }
+
+    @Test
+    void parsesIntegerBounds() {
+        IntegerArgument argument = new IntegerArgument(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, argument.parse(null, "2147483647"));
+        assertEquals(Integer.MIN_VALUE, argument.parse(null, "-2147483648"));
+    }
+
+    @Test
+    void rejectsOverflowAsOutOfRange() {
+        IntegerArgument argument = new IntegerArgument(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertNull(argument.parse(null, "2147483648"));
+        assertNull(argument.parse(null, "-2147483649"));
+        assertNull(argument.parse(null, "99999999999"));
+        assertEquals(ParseError.Reason.OUT_OF_RANGE, argument.getFailureReason(null, "2147483648"));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        IntegerArgument argument = new IntegerArgument(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertNull(argument.parse(null, ""));
+        assertNull(argument.parse(null, "-"));
+        assertNull(argument.parse(null, "1.5"));
+        assertNull(argument.parse(null, "12a"));
+        assertNull(argument.parse(null, "999999999999"));
+        assertEquals(ParseError.Reason.INVALID_NUMBER, argument.getFailureReason(null, "12a"));
+        assertEquals(ParseError.Reason.INVALID_NUMBER, argument.getFailureReason(null, "999999999999"));
+    }
+
+    @Test
+    void enforcesDeclaredRange() {
+        IntegerArgument argument = new IntegerArgument(1, 64);
+        assertEquals(1, argument.parse(null, "1"));
+        assertEquals(64, argument.parse(null, "64"));
+        assertNull(argument.parse(null, "0"));
+        assertNull(argument.parse(null, "65"));
+        assertEquals(ParseError.Reason.OUT_OF_RANGE, argument.getFailureReason(null, "65"));
+    }
+
+    @Test
+    void rejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () -> new IntegerArgument(10, 1));
+    }
+}
@@ -0,0 +1,158 @@
+package dev.m4trix.framework.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CooldownJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysEveryFlushedRecord() throws IOException {
+        CooldownJournal journal = new CooldownJournal(directory);
+        journal.open();
+        journal.define(0, "teleport");
+        journal.define(1, "heal");
+        journal.set(0, 1L, 2L, 1_000L);
+        journal.set(1, 3L, 4L, 2_000L);
+        journal.remove(0, 1L, 2L);
+        journal.clear(1);
+        journal.clearAll();
+        journal.flush();
+        journal.close();
+
+        Recorder recorder = new Recorder();
+        assertEquals(7, new CooldownJournal(directory).replay(recorder));
+        assertEquals(List.of(
+                "define 0 teleport",
+                "define 1 heal",
+                "set 0 1 2 1000",
+                "set 1 3 4 2000",
+                "remove 0 1 2",
+                "clear 1",
+                "clearAll"), recorder.events);
+    }
+
+    @Test
+    void replaysRecordsLargerThanTheBuffer() throws IOException {
+        CooldownJournal journal = new CooldownJournal(directory);
+        journal.open();
+        journal.define(0, "kit");
+        for (int i = 0; i < 10_000; i++) {
+            journal.set(0, i, i, i);
+        }
+        journal.flush();
+        journal.close();
+
+        Recorder recorder = new Recorder();
+        assertEquals(10_001, new CooldownJournal(directory).replay(recorder));
+        assertEquals("set 0 9999 9999 9999", recorder.events.get(10_000));
+    }
+
+    @Test
+    void ignoresTornTail() throws IOException {
+        CooldownJournal journal = new CooldownJournal(directory);
+        journal.open();
+        journal.define(0, "kit");
+        journal.set(0, 1L, 2L, 3L);
+        journal.set(0, 4L, 5L, 6L);
+        journal.flush();
+        journal.close();
+
+        Path log = directory.resolve("cooldowns.log");
+        byte[] bytes = Files.readAllBytes(log);
+        Files.write(log, Arrays.copyOf(bytes, bytes.length - 10), StandardOpenOption.TRUNCATE_EXISTING);
+
+        Recorder recorder = new Recorder();
+        assertEquals(2, new CooldownJournal(directory).replay(recorder));
+        assertEquals(List.of("define 0 kit", "set 0 1 2 3"), recorder.events);
+    }
+
+    @Test
+    void ignoresUnknownOperation() throws IOException {
+        CooldownJournal journal = new CooldownJournal(directory);
+        journal.open();
+        journal.define(0, "kit");
+        journal.flush();
+        journal.close();
+
+        Files.write(directory.resolve("cooldowns.log"), new byte[] {42, 0, 0}, StandardOpenOption.APPEND);
+
+        Recorder recorder = new Recorder();
+        assertEquals(1, new CooldownJournal(directory).replay(recorder));
+        assertEquals(List.of("define 0 kit"), recorder.events);
+    }
+
+    @Test
+    void compactionReplacesJournalWithSnapshot() throws IOException {
+        CooldownJournal journal = new CooldownJournal(directory);
+        journal.open();
+        journal.define(0, "kit");
+        for (int i = 0; i < 100; i++) {
+            journal.set(0, 7L, 7L, i);
+        }
+        journal.flush();
+        assertTrue(journal.size() > 0L);
+
+        long[] records = {0L, 7L, 7L, 99L};
+        journal.compact(() -> new CooldownJournal.Snapshot(new String[] {"kit"}, records));
+        assertEquals(0L, journal.size());
+
+        journal.set(0, 8L, 8L, 100L);
+        journal.flush();
+        journal.close();
+
+        Recorder recorder = new Recorder();
+        assertEquals(2, new CooldownJournal(directory).replay(recorder));
+        assertEquals(List.of("define 0 kit", "set 0 7 7 99", "set 0 8 8 100"), recorder.events);
+    }
+
+    @Test
+    void replaysNothingWithoutFiles() throws IOException {
+        Recorder recorder = new Recorder();
+        assertEquals(0, new CooldownJournal(directory).replay(recorder));
+        assertTrue(recorder.events.isEmpty());
+    }
+
+    private static final class Recorder implements CooldownJournal.Replayer {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void define(int id, String name) {
+            events.add("define " + id + " " + name);
+        }
+
+        @Override
+        public void set(int id, long msb, long lsb, long deadline) {
+            events.add("set " + id + " " + msb + " " + lsb + " " + deadline);
+        }
+
+        @Override
+        public void remove(int id, long msb, long lsb) {
+            events.add("remove " + id + " " + msb + " " + lsb);
+        }
+
+        @Override
+        public void clear(int id) {
+            events.add("clear " + id);
+        }
+
+        @Override
+        public void clearAll() {
+            events.add("clearAll");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package dev.m4trix.framework.service;
+
+import dev.m4trix.framework.util.FakeClock;
+import dev.m4trix.framework.util.FrameworkClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+
+    private static final long TICK = 1L << 10;
+
+    @Test
+    void cascadesEveryLevelDownToExpiry() {
+        FakeClock clock = FrameworkClock.fake(0L);
+        TimerWheel wheel = new TimerWheel(clock.millis());
+        long[] delays = {
+            500L,
+            5_000L,
+            100_000L,
+            10_000_000L,
+            200_000_000L,
+            900_000_000L
+        };
+        for (long delay : delays) {
+            wheel.schedule(new CacheEntry(Long.toString(delay), delay, delay, 1));
+        }
+
+        Map<String, Long> expired = new HashMap<>();
+        while (expired.size() < delays.length && clock.millis() < 2_000_000_000L) {
+            long now = clock.advance(Duration.ofMillis(TICK));
+            wheel.advance(now, entry -> expired.put(entry.key, now));
+        }
+
+        assertEquals(delays.length, expired.size());
+        for (long delay : delays) {
+            long at = expired.get(Long.toString(delay));
+            assertTrue(at >= delay, delay + " expired early at " + at);
+            assertTrue(at - delay <= 2 * TICK, delay + " expired late at " + at);
+        }
+    }
+
+    @Test
+    void survivesLargeJumps() {
+        FakeClock clock = FrameworkClock.fake(0L);
+        TimerWheel wheel = new TimerWheel(clock.millis());
+        wheel.schedule(new CacheEntry("soon", null, 3_000L, 1));
+        wheel.schedule(new CacheEntry("later", null, 50_000_000L, 1));
+
+        Map<String, Long> expired = new HashMap<>();
+        long now = clock.advance(Duration.ofDays(1));
+        wheel.advance(now, entry -> expired.put(entry.key, now));
+
+        assertEquals(2, expired.size());
+    }
+
+    @Test
+    void descheduledEntriesNeverExpire() {
+        FakeClock clock = FrameworkClock.fake(0L);
+        TimerWheel wheel = new TimerWheel(clock.millis());
+        CacheEntry kept = new CacheEntry("kept", null, 2_000L, 1);
+        CacheEntry removed = new CacheEntry("removed", null, 2_000L, 1);
+        wheel.schedule(kept);
+        wheel.schedule(removed);
+        wheel.deschedule(removed);
+        wheel.deschedule(removed);
+
+        Map<String, Long> expired = new HashMap<>();
+        long now = clock.advance(Duration.ofSeconds(5));
+        wheel.advance(now, entry -> expired.put(entry.key, now));
+
+        assertEquals(1, expired.size());
+        assertTrue(expired.containsKey("kept"));
+    }
+
+    @Test
+    void doesNotExpireBeforeDeadline() {
+        FakeClock clock = FrameworkClock.fake(0L);
+        TimerWheel wheel = new TimerWheel(clock.millis());
+        wheel.schedule(new CacheEntry("entry", null, 70_000L, 1));
+
+        Map<String, Long> expired = new HashMap<>();
+        while (clock.millis() < 69_000L) {
+            long now = clock.advance(Duration.ofMillis(100));
+            wheel.advance(now, entry -> expired.put(entry.key, now));
+        }
+        assertTrue(expired.isEmpty());
+
+        long now = clock.advance(Duration.ofSeconds(3));
+        wheel.advance(now, entry -> expired.put(entry.key, now));
+        assertEquals(1, expired.size());
+    }
+}
@@ -0,0 +1,114 @@
+package dev.m4trix.framework.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidLongMapTest {
+
+    private static final long MISSING = Long.MIN_VALUE;
+
+    @Test
+    void storesAndReplacesValues() {
+        UuidLongMap map = new UuidLongMap();
+        map.put(1L, 2L, 10L, 0L);
+        map.put(3L, 4L, 20L, 0L);
+        map.put(1L, 2L, 30L, 0L);
+
+        assertEquals(2, map.size());
+        assertEquals(30L, map.get(1L, 2L, 0L, MISSING));
+        assertEquals(20L, map.get(3L, 4L, 0L, MISSING));
+        assertEquals(MISSING, map.get(5L, 6L, 0L, MISSING));
+    }
+
+    @Test
+    void storesZeroKeyOutsideTheTable() {
+        UuidLongMap map = new UuidLongMap();
+        map.put(0L, 0L, 42L, 0L);
+
+        assertEquals(1, map.size());
+        assertEquals(42L, map.get(0L, 0L, 0L, MISSING));
+        assertTrue(map.remove(0L, 0L));
+        assertFalse(map.remove(0L, 0L));
+        assertEquals(0, map.size());
+        assertEquals(MISSING, map.get(0L, 0L, 0L, MISSING));
+    }
+
+    @Test
+    void keepsEntriesAcrossResize() {
+        UuidLongMap map = new UuidLongMap();
+        Random random = new Random(1L);
+        long[] keys = new long[20_000];
+        for (int i = 0; i < keys.length; i += 2) {
+            keys[i] = random.nextLong();
+            keys[i + 1] = random.nextLong();
+            map.put(keys[i], keys[i + 1], i, 0L);
+        }
+
+        assertEquals(keys.length / 2, map.size());
+        for (int i = 0; i < keys.length; i += 2) {
+            assertEquals(i, map.get(keys[i], keys[i + 1], 0L, MISSING));
+        }
+    }
+
+    @Test
+    void removeKeepsCollidingKeysReachable() {
+        UuidLongMap map = new UuidLongMap();
+        for (long i = 1; i <= 1_000; i++) {
+            map.put(i, i, i, 0L);
+        }
+        for (long i = 1; i <= 1_000; i += 2) {
+            assertTrue(map.remove(i, i));
+        }
+
+        assertEquals(500, map.size());
+        for (long i = 1; i <= 1_000; i++) {
+            assertEquals(i % 2 == 0 ? i : MISSING, map.get(i, i, 0L, MISSING));
+        }
+    }
+
+    @Test
+    void hidesExpiredEntries() {
+        UuidLongMap map = new UuidLongMap();
+        map.put(1L, 1L, 7L, 1_000L);
+
+        assertTrue(map.contains(1L, 1L, 1_000L));
+        assertEquals(7L, map.get(1L, 1L, 1_000L, MISSING));
+        assertFalse(map.contains(1L, 1L, 1_001L));
+        assertEquals(MISSING, map.get(1L, 1L, 1_001L, MISSING));
+        assertEquals(1_000L, map.getExpireTime(1L, 1L, MISSING));
+    }
+
+    @Test
+    void removesOnlyMatchingExpireTime() {
+        UuidLongMap map = new UuidLongMap();
+        map.put(1L, 1L, 7L, 1_000L);
+
+        assertFalse(map.removeIfExpireTime(1L, 1L, 2_000L));
+        assertTrue(map.removeIfExpireTime(1L, 1L, 1_000L));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void sweepRemovesExpiredEntriesWithinBudget() {
+        UuidLongMap map = new UuidLongMap();
+        for (long i = 1; i <= 100; i++) {
+            map.put(i, i, i, i <= 50 ? 10L : 0L);
+        }
+
+        int removed = 0;
+        for (int round = 0; round < 64 && removed < 50; round++) {
+            removed += map.sweep(11L, 16);
+        }
+
+        assertEquals(50, removed);
+        assertEquals(50, map.size());
+        for (long i = 51; i <= 100; i++) {
+            assertEquals(i, map.get(i, i, 11L, MISSING));
+        }
+    }
+}